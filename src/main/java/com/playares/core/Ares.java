@@ -7,6 +7,7 @@ import com.google.common.collect.Lists;
 import com.playares.bridge.BridgeService;
 import com.playares.commons.AresPlugin;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.commons.logger.Logger;
 import com.playares.commons.services.account.AccountService;
 import com.playares.commons.services.alts.AltWatcherService;
 import com.playares.commons.services.customitems.CustomItemService;
@@ -30,6 +31,7 @@ import com.playares.core.snitch.SnitchManager;
 import com.playares.core.snitch.data.Snitch;
 import com.playares.core.spawn.SpawnManager;
 import com.playares.core.timers.TimerManager;
+import com.playares.core.utils.WriteBarrier;
 import com.playares.essentials.EssentialsService;
 import com.playares.humbug.HumbugService;
 import com.playares.luxe.LuxeService;
@@ -42,9 +44,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public final class Ares extends AresPlugin {
     @Getter public MongoDB databaseInstance;
+    @Getter public WriteBarrier writeBarrier;
     @Getter public PlayerManager playerManager;
     @Getter public ChatManager chatManager;
     @Getter public ConfigManager configManager;
@@ -73,6 +77,7 @@ public final class Ares extends AresPlugin {
         this.databaseInstance = new MongoDB(configManager.getGeneralConfig().getDatabaseUri());
         registerDatabase(databaseInstance);
         databaseInstance.openConnection();
+        this.writeBarrier = new WriteBarrier();
 
         // Protocol
         registerProtocolLibrary(ProtocolLibrary.getProtocolManager());
@@ -135,9 +140,14 @@ public final class Ares extends AresPlugin {
 
         commandManager.getCommandCompletions().registerCompletion("networks", c -> {
             final Player player = c.getPlayer();
+
+            if (player == null) {
+                return networkManager.getNetworkRepository().getNamesByPrefix(c.getInput(), 100);
+            }
+
             final List<String> networkNames = Lists.newArrayList();
 
-            for (Network network : ((player == null) ? networkManager.getNetworkRepository() : networkManager.getNetworksByPlayer(player))) {
+            for (Network network : networkManager.getNetworksByPlayer(player)) {
                 networkNames.add(network.getName());
             }
 
@@ -172,6 +182,18 @@ public final class Ares extends AresPlugin {
         stopServices();
 
         playerManager.setAllPlayers(true);
+        claimManager.getFlushTask().cancel();
+        claimManager.getExperimentalLoadManager().getQueueProcessor().cancel();
+        claimManager.getExperimentalLoadManager().getLoaderPool().shutdown();
+        claimManager.getExperimentalLoadManager().getWriterPool().shutdown();
+        snitchManager.getSearchQueue().getExecutor().shutdown();
+
+        try {
+            claimManager.getExperimentalLoadManager().getWriterPool().awaitTermination(30L, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Logger.error("Interrupted while waiting for cached claims to be written");
+        }
+
         claimManager.getHandler().saveAll(true);
         networkManager.getHandler().saveAll(true);
         snitchManager.getHandler().saveAll(true);
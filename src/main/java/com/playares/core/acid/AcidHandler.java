@@ -54,14 +54,14 @@ public final class AcidHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all acid blocks to the database");
-            AcidDAO.saveAcidBlocks(manager.getPlugin().getDatabaseInstance(), manager.getAcidRepository());
-            Logger.print("Saved " + manager.getAcidRepository().size() + " Acid Blocks");
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> AcidDAO.saveAcidBlocks(manager.getPlugin().getDatabaseInstance(), manager.getAcidRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            Logger.print("Saved " + saved + " Acid Blocks");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            AcidDAO.saveAcidBlocks(manager.getPlugin().getDatabaseInstance(), manager.getAcidRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getAcidRepository().size() + " Acid Blocks")).run();
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> AcidDAO.saveAcidBlocks(manager.getPlugin().getDatabaseInstance(), manager.getAcidRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Acid Blocks")).run();
         }).run();
     }
 
@@ -1,7 +1,6 @@
 package com.playares.core.acid;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Scheduler;
@@ -11,6 +10,7 @@ import com.playares.core.acid.listener.AcidListener;
 import com.playares.core.bastion.data.Bastion;
 import com.playares.core.claim.data.ClaimDAO;
 import com.playares.core.network.data.Network;
+import com.playares.core.utils.KeyedRepository;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -25,13 +25,13 @@ import java.util.stream.Collectors;
 public final class AcidManager {
     @Getter public final Ares plugin;
     @Getter public AcidHandler handler;
-    @Getter public final Set<AcidBlock> acidRepository;
+    @Getter public final KeyedRepository<AcidBlock> acidRepository;
     @Getter public final BukkitTask tickingTask;
 
     public AcidManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new AcidHandler(this);
-        this.acidRepository = Sets.newConcurrentHashSet();
+        this.acidRepository = new KeyedRepository<>(AcidBlock::getUniqueId);
         this.tickingTask = new Scheduler(plugin).async(() -> {
 
             // Gets all Acid Blocks that are matured & not expired
@@ -49,7 +49,7 @@ public final class AcidManager {
 
                             // We killed him
                             if (nearbyClaim.getHealth() <= 0) {
-                                plugin.getClaimManager().getClaimRepository().remove(nearbyClaim);
+                                plugin.getClaimManager().removeClaim(nearbyClaim);
                                 ClaimDAO.deleteClaim(plugin.getDatabaseInstance(), nearbyClaim);
 
                                 new Scheduler(plugin).sync(() -> {
@@ -76,7 +76,7 @@ public final class AcidManager {
      * @return Acid Block
      */
     public AcidBlock getAcidBlockByID(UUID uniqueId) {
-        return acidRepository.stream().filter(acid -> acid.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return acidRepository.get(uniqueId);
     }
 
     /**
@@ -6,10 +6,12 @@ import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public final class AcidDAO {
     private static final String NAME = "ares";
@@ -51,19 +53,12 @@ public final class AcidDAO {
      * Save a collection of Acid Blocks to the provided MongoDB instance
      * @param database MongoDB Instance
      * @param acidBlocks Collection of AcidBlocks
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveAcidBlocks(MongoDB database, Collection<AcidBlock> acidBlocks) {
+    public static int saveAcidBlocks(MongoDB database, Collection<AcidBlock> acidBlocks, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        acidBlocks.forEach(acidBlock -> {
-            final Document existing = collection.find(Filters.eq("id", acidBlock.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, acidBlock.toDocument());
-            } else {
-                collection.insertOne(acidBlock.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, acidBlocks, batchSize);
     }
 
     /**
@@ -81,4 +76,15 @@ public final class AcidDAO {
 
         collection.deleteOne(existing);
     }
+
+    /**
+     * Deletes every acid block owned by the provided network from the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param ownerId Network UUID
+     * @return Amount of acid blocks deleted
+     */
+    public static long deleteByOwner(MongoDB database, UUID ownerId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.eq("owner", ownerId)).getDeletedCount();
+    }
 }
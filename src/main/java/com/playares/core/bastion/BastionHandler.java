@@ -50,14 +50,14 @@ public final class BastionHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all bastions to the database");
-            BastionDAO.saveBastions(manager.getPlugin().getDatabaseInstance(), manager.getBastionRepository());
-            Logger.print("Saved " + manager.getBastionRepository().size() + " Bastions");
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> BastionDAO.saveBastions(manager.getPlugin().getDatabaseInstance(), manager.getBastionRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            Logger.print("Saved " + saved + " Bastions");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            BastionDAO.saveBastions(manager.getPlugin().getDatabaseInstance(), manager.getBastionRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getBastionRepository().size() + " Bastions")).run();
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> BastionDAO.saveBastions(manager.getPlugin().getDatabaseInstance(), manager.getBastionRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Bastions")).run();
         }).run();
     }
 
@@ -3,12 +3,12 @@ package com.playares.core.bastion;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import com.playares.commons.location.BLocatable;
 import com.playares.core.Ares;
 import com.playares.core.bastion.data.Bastion;
 import com.playares.core.bastion.listener.BastionListener;
 import com.playares.core.network.data.Network;
+import com.playares.core.utils.KeyedRepository;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 
@@ -20,12 +20,12 @@ import java.util.stream.Collectors;
 public final class BastionManager {
     @Getter public final Ares plugin;
     @Getter public final BastionHandler handler;
-    @Getter public final Set<Bastion> bastionRepository;
+    @Getter public final KeyedRepository<Bastion> bastionRepository;
 
     public BastionManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new BastionHandler(this);
-        this.bastionRepository = Sets.newConcurrentHashSet();
+        this.bastionRepository = new KeyedRepository<>(Bastion::getUniqueId);
 
         Bukkit.getPluginManager().registerEvents(new BastionListener(this), plugin);
     }
@@ -36,7 +36,7 @@ public final class BastionManager {
      * @return Bastion
      */
     public Bastion getBastionByID(UUID uniqueId) {
-        return bastionRepository.stream().filter(bastion -> bastion.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return bastionRepository.get(uniqueId);
     }
 
     /**
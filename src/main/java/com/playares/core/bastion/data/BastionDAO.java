@@ -6,10 +6,12 @@ import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public final class BastionDAO {
     private static final String NAME = "ares";
@@ -51,19 +53,12 @@ public final class BastionDAO {
      * Save a collection of Bastions to the provided MongoDB instance
      * @param database MongoDB Instance
      * @param bastions Collection of Bastions
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveBastions(MongoDB database, Collection<Bastion> bastions) {
+    public static int saveBastions(MongoDB database, Collection<Bastion> bastions, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        bastions.forEach(bastion -> {
-            final Document existing = collection.find(Filters.eq("id", bastion.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, bastion.toDocument());
-            } else {
-                collection.insertOne(bastion.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, bastions, batchSize);
     }
 
     /**
@@ -81,4 +76,15 @@ public final class BastionDAO {
 
         collection.deleteOne(existing);
     }
+
+    /**
+     * Deletes every bastion owned by the provided network from the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param ownerId Network UUID
+     * @return Amount of bastions deleted
+     */
+    public static long deleteByOwner(MongoDB database, UUID ownerId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.eq("owner", ownerId)).getDeletedCount();
+    }
 }
@@ -1,8 +1,11 @@
 package com.playares.core.claim;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.promise.SimplePromise;
 import com.playares.commons.util.bukkit.Scheduler;
+import com.playares.core.claim.data.Claim;
 import com.playares.core.claim.data.ClaimDAO;
 import com.playares.core.claim.data.ClaimType;
 import com.playares.core.claim.session.ClaimSession;
@@ -15,6 +18,10 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public final class ClaimHandler {
     @Getter public ClaimManager manager;
 
@@ -30,35 +37,103 @@ public final class ClaimHandler {
     public void loadAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to load all claims from the database");
-            manager.getClaimRepository().addAll(ClaimDAO.getClaims(manager.getPlugin().getDatabaseInstance()));
+            manager.addClaims(ClaimDAO.getClaims(manager.getPlugin().getDatabaseInstance()));
             Logger.print("Loaded " + manager.getClaimRepository().size() + " Claims");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            manager.getClaimRepository().addAll(ClaimDAO.getClaims(manager.getPlugin().getDatabaseInstance()));
+            manager.addClaims(ClaimDAO.getClaims(manager.getPlugin().getDatabaseInstance()));
             new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Loaded " + manager.getClaimRepository().size() + " Claims")).run();
         }).run();
     }
 
     /**
-     * Save all claims to the database from memory
+     * Save all dirty claims to the database from memory
      * @param blocking Block the current thread
      */
     public void saveAll(boolean blocking) {
         if (blocking) {
-            Logger.warn("Blocking the thread while attempting to save all networks to the database");
-            ClaimDAO.saveClaims(manager.getPlugin().getDatabaseInstance(), manager.getClaimRepository());
-            Logger.print("Saved " + manager.getClaimRepository().size() + " Claims");
+            Logger.warn("Blocking the thread while attempting to save all claims to the database");
+            final int saved = saveDirty(getSaveable());
+            Logger.print("Saved " + saved + " Claims");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            ClaimDAO.saveClaims(manager.getPlugin().getDatabaseInstance(), manager.getClaimRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getClaimRepository().size() + " Claims")).run();
+            final int saved = saveDirty(getSaveable());
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Claims")).run();
         }).run();
     }
 
+    /**
+     * Saves a batch of dirty claims from the repository, called by the write-behind flusher
+     * @return Amount of claims saved
+     */
+    public int flushDirty() {
+        final int batchSize = Math.max(1, manager.getPlugin().getConfigManager().getClaimsConfig().getWriteBehindBatchSize());
+        final List<Claim> dirty = manager.getClaimRepository().pollDirty(batchSize);
+
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+
+        // Claims that failed to save or changed during the write are queued for the next flush
+        try {
+            return saveDirty(dirty);
+        } finally {
+            manager.getClaimRepository().requeueDirty(dirty);
+        }
+    }
+
+    /**
+     * Saves the dirty claims in the provided collection and marks them as saved
+     *
+     * The version of each claim is captured before the write is issued, so a claim
+     * modified while the write is in flight stays dirty. Claims are only marked as
+     * saved if every document in the write succeeded.
+     *
+     * Deleted claims are skipped, and claims deleted while the write was in flight are
+     * deleted again afterwards so the upsert can not bring them back.
+     *
+     * @param claims Claims
+     * @return Amount of claims saved
+     */
+    public int saveDirty(Collection<Claim> claims) {
+        final Map<Claim, Long> versions = Maps.newHashMap();
+
+        claims.stream().filter(claim -> claim.isDirty() && !claim.isDeleted()).forEach(claim -> versions.put(claim, claim.getVersion()));
+
+        if (versions.isEmpty()) {
+            return 0;
+        }
+
+        final int saved = manager.getPlugin().getWriteBarrier().write(() -> ClaimDAO.saveClaims(manager.getPlugin().getDatabaseInstance(), versions.keySet(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+
+        if (saved == versions.size()) {
+            versions.forEach(Claim::markSaved);
+        }
+
+        versions.keySet().stream().filter(Claim::isDeleted).forEach(claim -> ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), claim));
+
+        return saved;
+    }
+
+    /**
+     * Returns the amount of loaded and cached claims with unsaved changes
+     * @return Dirty claim count
+     */
+    public long getDirtyCount() {
+        return manager.getClaimRepository().getDirtyCount() + manager.getExperimentalLoadManager().getChunkCache().getDirtyClaims().size();
+    }
+
+    private List<Claim> getSaveable() {
+        return ImmutableList.<Claim>builder()
+                .addAll(manager.getClaimRepository())
+                .addAll(manager.getExperimentalLoadManager().getChunkCache().getDirtyClaims())
+                .build();
+    }
+
     /**
      * Handles entering the reinforcement builder
      * @param player Player
@@ -3,38 +3,63 @@ package com.playares.core.claim;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import com.playares.commons.location.BLocatable;
+import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.core.Ares;
 import com.playares.core.claim.data.Claim;
+import com.playares.core.claim.data.ClaimRepository;
+import com.playares.core.claim.data.HopperDecisionCache;
+import com.playares.core.claim.data.RedstoneAuthorizationCache;
 import com.playares.core.claim.experimental.ExperimentalLoadManager;
 import com.playares.core.claim.listener.ClaimCreatorListener;
 import com.playares.core.claim.listener.ClaimListener;
+import com.playares.core.claim.listener.RedstoneAuthorizationListener;
 import com.playares.core.claim.session.ClaimSession;
 import com.playares.core.network.data.Network;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 public final class ClaimManager {
     @Getter public final Ares plugin;
     @Getter public final ClaimHandler handler;
-    @Getter public final Set<Claim> claimRepository;
+    @Getter public final ClaimRepository claimRepository;
+    @Getter public final RedstoneAuthorizationCache redstoneCache;
+    @Getter public final HopperDecisionCache hopperCache;
     @Getter public final Set<ClaimSession> activeClaimSessions;
     @Getter public final ExperimentalLoadManager experimentalLoadManager;
+    @Getter public final BukkitTask flushTask;
 
     public ClaimManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new ClaimHandler(this);
-        this.claimRepository = Sets.newConcurrentHashSet();
+        this.claimRepository = new ClaimRepository();
+        this.redstoneCache = new RedstoneAuthorizationCache();
+        this.hopperCache = new HopperDecisionCache(claimRepository);
         this.activeClaimSessions = Sets.newConcurrentHashSet();
         this.experimentalLoadManager = new ExperimentalLoadManager(this);
 
+        // Dirty claims are flushed on the claim writer thread so they are never written out of order with chunk unloads
+        final long flushInterval = Math.max(1, plugin.getConfigManager().getClaimsConfig().getWriteBehindInterval()) * 20L;
+        this.flushTask = new Scheduler(plugin).async(() -> {
+            try {
+                experimentalLoadManager.getWriterPool().submit(handler::flushDirty);
+            } catch (RejectedExecutionException ex) {
+                // Writer pool is shutting down, remaining dirty claims are saved by saveAll
+            }
+        }).repeat(flushInterval, flushInterval).run();
+
         Bukkit.getPluginManager().registerEvents(new ClaimListener(this), plugin);
         Bukkit.getPluginManager().registerEvents(new ClaimCreatorListener(this), plugin);
+        Bukkit.getPluginManager().registerEvents(new RedstoneAuthorizationListener(this), plugin);
     }
 
     /**
@@ -43,7 +68,7 @@ public final class ClaimManager {
      * @return Claim
      */
     public Claim getClaimByID(UUID uniqueId) {
-        return claimRepository.stream().filter(claim -> claim.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return claimRepository.getClaimByID(uniqueId);
     }
 
     /**
@@ -52,16 +77,7 @@ public final class ClaimManager {
      * @return Claim
      */
     public Claim getClaimByBlock(Block block) {
-        return claimRepository
-                .stream()
-                .filter(
-                        claim ->
-                                claim.getLocation().getX() == block.getLocation().getX() &&
-                                claim.getLocation().getY() == block.getLocation().getY() &&
-                                claim.getLocation().getZ() == block.getLocation().getZ() &&
-                                claim.getLocation().getWorldName().equals(block.getLocation().getWorld().getName()))
-                .findFirst()
-                .orElse(null);
+        return getClaimByBlock(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
     }
 
     /**
@@ -70,16 +86,112 @@ public final class ClaimManager {
      * @return Claim
      */
     public Claim getClaimByBlock(BLocatable block) {
-        return claimRepository
-                .stream()
-                .filter(
-                        claim ->
-                                claim.getLocation().getX() == block.getX() &&
-                                claim.getLocation().getY() == block.getY() &&
-                                claim.getLocation().getZ() == block.getZ() &&
-                                claim.getLocation().getWorldName().equals(block.getWorldName()))
-                .findFirst()
-                .orElse(null);
+        return getClaimByBlock(block.getWorldName(), (int)block.getX(), (int)block.getY(), (int)block.getZ());
+    }
+
+    /**
+     * Returns a Claim matching the provided block coordinates
+     * @param worldName World Name
+     * @param x Block X
+     * @param y Block Y
+     * @param z Block Z
+     * @return Claim
+     */
+    public Claim getClaimByBlock(String worldName, int x, int y, int z) {
+        return claimRepository.getClaimByBlock(worldName, x, y, z);
+    }
+
+    /**
+     * Returns true if the chunk containing the provided Bukkit Block, or a chunk bordering
+     * the block, contains at least one claim
+     *
+     * Used to skip multi-block and neighbour lookups in claim-free areas
+     *
+     * @param block Bukkit Block
+     * @return True if a claim may be nearby
+     */
+    public boolean hasClaimsNear(Block block) {
+        final String worldName = block.getWorld().getName();
+        final int chunkX = block.getX() >> 4;
+        final int chunkZ = block.getZ() >> 4;
+        final int offsetX = (block.getX() & 15) == 0 ? -1 : ((block.getX() & 15) == 15 ? 1 : 0);
+        final int offsetZ = (block.getZ() & 15) == 0 ? -1 : ((block.getZ() & 15) == 15 ? 1 : 0);
+
+        if (claimRepository.hasClaims(worldName, chunkX, chunkZ)) {
+            return true;
+        }
+
+        if (offsetX != 0 && claimRepository.hasClaims(worldName, chunkX + offsetX, chunkZ)) {
+            return true;
+        }
+
+        if (offsetZ != 0 && claimRepository.hasClaims(worldName, chunkX, chunkZ + offsetZ)) {
+            return true;
+        }
+
+        return offsetX != 0 && offsetZ != 0 && claimRepository.hasClaims(worldName, chunkX + offsetX, chunkZ + offsetZ);
+    }
+
+    /**
+     * Adds a Claim to the repository
+     * @param claim Claim
+     */
+    public void addClaim(Claim claim) {
+        claimRepository.add(claim);
+    }
+
+    /**
+     * Adds a collection of Claims to the repository
+     * @param claims Claims
+     */
+    public void addClaims(Collection<Claim> claims) {
+        claims.forEach(this::addClaim);
+    }
+
+    /**
+     * Removes a Claim from the repository and the unloaded chunk cache
+     *
+     * The claim is marked as deleted so a save already in flight does not write it back
+     *
+     * @param claim Claim
+     */
+    public void removeClaim(Claim claim) {
+        claim.markDeleted();
+        detachClaim(claim);
+    }
+
+    /**
+     * Removes a collection of Claims from the repository
+     * @param claims Claims
+     */
+    public void removeClaims(Collection<Claim> claims) {
+        claims.forEach(this::removeClaim);
+    }
+
+    /**
+     * Moves Claims to new Bukkit Blocks and updates the repository
+     *
+     * All claims are removed from the repository before any are re-added so claims shifting
+     * in to each others previous positions (pistons) do not overwrite one another
+     *
+     * @param moves Map of Claims to their new Bukkit Block
+     */
+    public void moveClaims(Map<Claim, Block> moves) {
+        moves.keySet().forEach(this::detachClaim);
+
+        moves.forEach((claim, block) -> {
+            claim.setLocation(new BLocatable(block));
+            claim.setChunkX(block.getChunk().getX());
+            claim.setChunkZ(block.getChunk().getZ());
+            claim.setChunkWorld(block.getWorld().getName());
+
+            addClaim(claim);
+        });
+    }
+
+    private void detachClaim(Claim claim) {
+        claimRepository.remove(claim);
+        experimentalLoadManager.getChunkCache().remove(claim);
     }
 
     /**
@@ -90,16 +202,20 @@ public final class ClaimManager {
      * @return Immutable List of Claims
      */
     public ImmutableList<Claim> getClaimByChunk(int chunkX, int chunkZ, String worldName) {
-        return ImmutableList.copyOf(claimRepository.stream().filter(claim -> claim.getChunkX() == chunkX && claim.getChunkZ() == chunkZ && claim.getChunkWorld().equals(worldName)).collect(Collectors.toList()));
+        return claimRepository.getChunk(worldName, chunkX, chunkZ);
     }
 
     /**
-     * Returns an Immutable List containing all Claim blocks owned by the provided Network UUID
+     * Returns an Immutable List containing all Claim blocks owned by the provided Network UUID,
+     * including claims held in the unloaded chunk cache
      * @param network Network
      * @return ImmutableList of Claims
      */
     public ImmutableList<Claim> getClaimByOwner(Network network) {
-        return ImmutableList.copyOf(claimRepository.stream().filter(claim -> claim.getOwnerId().equals(network.getUniqueId())).collect(Collectors.toList()));
+        return ImmutableList.<Claim>builder()
+                .addAll(claimRepository.stream().filter(claim -> claim.getOwnerId().equals(network.getUniqueId())).collect(Collectors.toList()))
+                .addAll(experimentalLoadManager.getChunkCache().getClaimsByOwner(network.getUniqueId()))
+                .build();
     }
 
     /**
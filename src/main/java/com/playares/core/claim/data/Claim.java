@@ -4,7 +4,6 @@ import com.playares.commons.connect.mongodb.MongoDocument;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.util.general.Time;
 import lombok.Getter;
-import lombok.Setter;
 import org.bson.Document;
 
 import java.util.UUID;
@@ -12,13 +11,17 @@ import java.util.UUID;
 public final class Claim implements MongoDocument<Claim> {
     @Getter public UUID uniqueId;
     @Getter public UUID ownerId;
-    @Getter @Setter public int chunkX;
-    @Getter @Setter public int chunkZ;
-    @Getter @Setter public String chunkWorld;
-    @Getter @Setter public BLocatable location;
-    @Getter @Setter public ClaimType type;
-    @Getter @Setter public int health;
-    @Getter @Setter public long matureTime;
+    @Getter public int chunkX;
+    @Getter public int chunkZ;
+    @Getter public String chunkWorld;
+    @Getter public BLocatable location;
+    @Getter public ClaimType type;
+    @Getter public int health;
+    @Getter public long matureTime;
+    @Getter public volatile long version;
+    @Getter public volatile long savedVersion;
+    @Getter public volatile boolean deleted;
+    volatile ClaimRepository repository;
 
     public Claim() {
         this.uniqueId = UUID.randomUUID();
@@ -30,6 +33,9 @@ public final class Claim implements MongoDocument<Claim> {
         this.type = null;
         this.health = 0;
         this.matureTime = 0L;
+        this.version = 0L;
+        this.savedVersion = 0L;
+        this.deleted = false;
     }
 
     public Claim(UUID ownerId, int chunkX, int chunkZ, BLocatable location, ClaimType type) {
@@ -42,6 +48,82 @@ public final class Claim implements MongoDocument<Claim> {
         this.type = type;
         this.health = type.getDurability();
         this.matureTime = (Time.now() + (type.getMatureTimeInSeconds() * 1000L));
+        this.version = 1L;
+        this.savedVersion = 0L;
+        this.deleted = false;
+    }
+
+    public void setChunkX(int chunkX) {
+        this.chunkX = chunkX;
+        markDirty();
+    }
+
+    public void setChunkZ(int chunkZ) {
+        this.chunkZ = chunkZ;
+        markDirty();
+    }
+
+    public void setChunkWorld(String chunkWorld) {
+        this.chunkWorld = chunkWorld;
+        markDirty();
+    }
+
+    public void setLocation(BLocatable location) {
+        this.location = location;
+        markDirty();
+    }
+
+    public void setType(ClaimType type) {
+        this.type = type;
+        markDirty();
+    }
+
+    public void setHealth(int health) {
+        this.health = health;
+        markDirty();
+    }
+
+    public void setMatureTime(long matureTime) {
+        this.matureTime = matureTime;
+        markDirty();
+    }
+
+    /**
+     * Marks this Claim as changed since it was last saved
+     */
+    public synchronized void markDirty() {
+        version++;
+
+        final ClaimRepository current = repository;
+
+        if (current != null) {
+            current.markDirty(this);
+        }
+    }
+
+    /**
+     * Marks this Claim as deleted so saves that are already in flight do not write it back
+     */
+    public void markDeleted() {
+        this.deleted = true;
+    }
+
+    /**
+     * Marks this Claim as saved up to the provided version
+     * @param savedVersion Version captured before the save was issued
+     */
+    public synchronized void markSaved(long savedVersion) {
+        if (savedVersion > this.savedVersion) {
+            this.savedVersion = savedVersion;
+        }
+    }
+
+    /**
+     * Returns true if this Claim has changes that have not been saved
+     * @return True if dirty
+     */
+    public boolean isDirty() {
+        return version > savedVersion;
     }
 
     /**
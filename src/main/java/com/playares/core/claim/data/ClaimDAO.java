@@ -7,10 +7,14 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.claim.experimental.data.QueuedChunk;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public final class ClaimDAO {
     private static final String NAME = "ares";
@@ -54,6 +58,40 @@ public final class ClaimDAO {
         return ImmutableList.copyOf(claims);
     }
 
+    /**
+     * Returns an Immutable Collection of all claims within any of the provided chunks
+     *
+     * Issues a single query for the entire batch, all chunks must belong to the provided world
+     *
+     * @param database Database
+     * @param chunkWorld Chunk World
+     * @param chunks Chunks to query
+     * @return Immutable Collection of claims
+     */
+    public static ImmutableCollection<Claim> getChunkClaims(MongoDB database, String chunkWorld, Collection<QueuedChunk> chunks) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        final List<Bson> chunkFilters = Lists.newArrayListWithExpectedSize(chunks.size());
+        final List<Claim> claims = Lists.newArrayList();
+
+        if (chunks.isEmpty()) {
+            return ImmutableList.of();
+        }
+
+        for (QueuedChunk chunk : chunks) {
+            chunkFilters.add(Filters.and(Filters.eq("chunk_x", chunk.getX()), Filters.eq("chunk_z", chunk.getZ())));
+        }
+
+        final MongoCursor<Document> cursor = collection.find(Filters.and(Filters.eq("chunk_world", chunkWorld), Filters.or(chunkFilters))).cursor();
+
+        while (cursor.hasNext()) {
+            claims.add(new Claim().fromDocument(cursor.next()));
+        }
+
+        cursor.close();
+
+        return ImmutableList.copyOf(claims);
+    }
+
     /**
      * Save a single Claim instance to the provided MongoDB instance
      * @param database MongoDB Instance
@@ -74,19 +112,12 @@ public final class ClaimDAO {
      * Save a collection of Claims to the provided MongoDB instance
      * @param database MongoDB Instance
      * @param claims Collection of Claims
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveClaims(MongoDB database, Collection<Claim> claims) {
+    public static int saveClaims(MongoDB database, Collection<Claim> claims, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        claims.forEach(claim -> {
-            final Document existing = collection.find(Filters.eq("id", claim.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, claim.toDocument());
-            } else {
-                collection.insertOne(claim.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, claims, batchSize);
     }
 
     /**
@@ -104,4 +135,15 @@ public final class ClaimDAO {
 
         collection.deleteOne(existing);
     }
+
+    /**
+     * Deletes every claim owned by the provided network from the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param ownerId Network UUID
+     * @return Amount of claims deleted
+     */
+    public static long deleteByOwner(MongoDB database, UUID ownerId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.eq("owner_id", ownerId)).getDeletedCount();
+    }
 }
\ No newline at end of file
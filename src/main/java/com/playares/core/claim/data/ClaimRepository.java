@@ -0,0 +1,405 @@
+package com.playares.core.claim.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.playares.commons.location.BLocatable;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.KeyedRepository;
+import com.playares.core.utils.LongHashMap;
+import lombok.Getter;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Claim storage bucketed by world and chunk
+ *
+ * Each world keeps a block index keyed by packed block coordinates and a map of
+ * chunk keys to the claims attributed to that chunk, so attaching and detaching a
+ * chunk only touches the claims inside of it.
+ *
+ * Each world also counts the claims physically inside every chunk so lookups in
+ * claim-free chunks, which is most of the map, return before touching the block index.
+ *
+ * Claims changed while in this repository are queued in a dirty set, so the
+ * write-behind flusher only visits claims that need saving.
+ *
+ * This class is a Set view over every loaded claim so existing iteration, size and
+ * stream calls keep working.
+ */
+public final class ClaimRepository extends AbstractSet<Claim> {
+    private final KeyedRepository<Claim> claims;
+    private final Map<String, ClaimWorld> worlds;
+    private final Set<Claim> dirty;
+
+    public ClaimRepository() {
+        this.claims = new KeyedRepository<>(Claim::getUniqueId);
+        this.worlds = Maps.newConcurrentMap();
+        this.dirty = Sets.newConcurrentHashSet();
+    }
+
+    /**
+     * Removes and returns up to the provided amount of dirty claims
+     * @param limit Maximum amount of claims
+     * @return Immutable List of Claims
+     */
+    public ImmutableList<Claim> pollDirty(int limit) {
+        final ImmutableList.Builder<Claim> result = ImmutableList.builder();
+        final Iterator<Claim> iterator = dirty.iterator();
+        int polled = 0;
+
+        while (polled < limit && iterator.hasNext()) {
+            final Claim claim = iterator.next();
+            iterator.remove();
+            result.add(claim);
+            polled++;
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Queues the provided claims again if they are still dirty and in this repository
+     * @param claims Claims
+     */
+    public void requeueDirty(Collection<Claim> claims) {
+        claims.forEach(this::markDirty);
+    }
+
+    /**
+     * @return Amount of claims queued as dirty
+     */
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    void markDirty(Claim claim) {
+        if (claim.isDirty() && claims.contains(claim)) {
+            dirty.add(claim);
+        }
+    }
+
+    /**
+     * Returns a Claim matching the provided UUID
+     * @param uniqueId Claim ID
+     * @return Claim
+     */
+    public Claim getClaimByID(UUID uniqueId) {
+        return claims.get(uniqueId);
+    }
+
+    /**
+     * Returns a Claim at the provided block coordinates
+     * @param worldName World Name
+     * @param x Block X
+     * @param y Block Y
+     * @param z Block Z
+     * @return Claim
+     */
+    public Claim getClaimByBlock(String worldName, int x, int y, int z) {
+        final ClaimWorld world = worlds.get(worldName);
+
+        if (world == null || !world.getClaimCounts().containsKey(BlockUtil.toChunkKey(x >> 4, z >> 4))) {
+            return null;
+        }
+
+        return world.getBlocks().get(BlockUtil.toPackedLong(x, y, z));
+    }
+
+    /**
+     * Returns true if the provided chunk contains at least one claimed block
+     *
+     * Unlike getChunk this uses the chunk the claimed block is physically inside of,
+     * not the chunk the claim is attributed to in the database
+     *
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return True if claimed
+     */
+    public boolean hasClaims(String worldName, int chunkX, int chunkZ) {
+        final ClaimWorld world = worlds.get(worldName);
+        return world != null && world.getClaimCounts().containsKey(BlockUtil.toChunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Returns the generation of the provided chunk, which changes every time a claim
+     * inside of the chunk is added or removed. Chunks without claims are always 0.
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Generation
+     */
+    public int getGeneration(String worldName, int chunkX, int chunkZ) {
+        final ClaimWorld world = worlds.get(worldName);
+
+        if (world == null) {
+            return 0;
+        }
+
+        final ChunkClaims claims = world.getClaimCounts().get(BlockUtil.toChunkKey(chunkX, chunkZ));
+        return (claims == null) ? 0 : claims.getGeneration();
+    }
+
+    /**
+     * Returns an Immutable List of all claims attributed to the provided chunk
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Immutable List of Claims
+     */
+    public ImmutableList<Claim> getChunk(String worldName, int chunkX, int chunkZ) {
+        final ClaimWorld world = worlds.get(worldName);
+
+        if (world == null) {
+            return ImmutableList.of();
+        }
+
+        final Set<Claim> bucket = world.getChunks().get(BlockUtil.toChunkKey(chunkX, chunkZ));
+
+        if (bucket == null) {
+            return ImmutableList.of();
+        }
+
+        return ImmutableList.copyOf(bucket);
+    }
+
+    /**
+     * Attaches the claims loaded for a chunk to this repository
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @param bucket Claims inside the chunk
+     */
+    public synchronized void attachChunk(String worldName, int chunkX, int chunkZ, Collection<Claim> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        final ClaimWorld world = getWorld(worldName);
+        final long chunkKey = BlockUtil.toChunkKey(chunkX, chunkZ);
+        Set<Claim> existing = world.getChunks().get(chunkKey);
+
+        if (existing == null) {
+            existing = Sets.newConcurrentHashSet();
+            world.getChunks().put(chunkKey, existing);
+        }
+
+        for (Claim claim : bucket) {
+            if (claims.add(claim)) {
+                track(claim);
+                existing.add(claim);
+                world.getBlocks().put(getBlockKey(claim.getLocation()), claim);
+                world.increment(claim.getLocation());
+            }
+        }
+    }
+
+    /**
+     * Detaches every claim attributed to the provided chunk from this repository
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Immutable List of detached Claims
+     */
+    public synchronized ImmutableList<Claim> detachChunk(String worldName, int chunkX, int chunkZ) {
+        final ClaimWorld world = worlds.get(worldName);
+
+        if (world == null) {
+            return ImmutableList.of();
+        }
+
+        final Set<Claim> bucket = world.getChunks().remove(BlockUtil.toChunkKey(chunkX, chunkZ));
+
+        if (bucket == null) {
+            return ImmutableList.of();
+        }
+
+        for (Claim claim : bucket) {
+            if (claims.remove(claim)) {
+                untrack(claim);
+                world.getBlocks().remove(getBlockKey(claim.getLocation()), claim);
+                world.decrement(claim.getLocation());
+            }
+        }
+
+        return ImmutableList.copyOf(bucket);
+    }
+
+    @Override
+    public synchronized boolean add(Claim claim) {
+        if (!claims.add(claim)) {
+            return false;
+        }
+
+        track(claim);
+
+        final ClaimWorld world = getWorld(claim.getChunkWorld());
+        final long chunkKey = BlockUtil.toChunkKey(claim.getChunkX(), claim.getChunkZ());
+        Set<Claim> bucket = world.getChunks().get(chunkKey);
+
+        if (bucket == null) {
+            bucket = Sets.newConcurrentHashSet();
+            world.getChunks().put(chunkKey, bucket);
+        }
+
+        bucket.add(claim);
+        world.getBlocks().put(getBlockKey(claim.getLocation()), claim);
+        world.increment(claim.getLocation());
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object object) {
+        if (!(object instanceof Claim) || !claims.remove(object)) {
+            return false;
+        }
+
+        final Claim claim = (Claim)object;
+        untrack(claim);
+        final ClaimWorld world = worlds.get(claim.getChunkWorld());
+
+        if (world == null) {
+            return true;
+        }
+
+        final long chunkKey = BlockUtil.toChunkKey(claim.getChunkX(), claim.getChunkZ());
+        final Set<Claim> bucket = world.getChunks().get(chunkKey);
+
+        if (bucket != null) {
+            bucket.remove(claim);
+
+            if (bucket.isEmpty()) {
+                world.getChunks().remove(chunkKey);
+            }
+        }
+
+        world.getBlocks().remove(getBlockKey(claim.getLocation()), claim);
+        world.decrement(claim.getLocation());
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return claims.contains(object);
+    }
+
+    @Override
+    public Iterator<Claim> iterator() {
+        final Iterator<Claim> iterator = claims.iterator();
+
+        return new Iterator<Claim>() {
+            private Claim current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Claim next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+
+                ClaimRepository.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return claims.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        claims.forEach(claim -> claim.repository = null);
+        claims.clear();
+        worlds.clear();
+        dirty.clear();
+    }
+
+    private void track(Claim claim) {
+        claim.repository = this;
+
+        if (claim.isDirty()) {
+            dirty.add(claim);
+        }
+    }
+
+    private void untrack(Claim claim) {
+        if (claim.repository == this) {
+            claim.repository = null;
+        }
+
+        dirty.remove(claim);
+    }
+
+    private ClaimWorld getWorld(String worldName) {
+        return worlds.computeIfAbsent(worldName, name -> new ClaimWorld());
+    }
+
+    private long getBlockKey(BLocatable location) {
+        return BlockUtil.toPackedLong((int)location.getX(), (int)location.getY(), (int)location.getZ());
+    }
+
+    private static final class ClaimWorld {
+        @Getter private final LongHashMap<Claim> blocks = new LongHashMap<>();
+        @Getter private final LongHashMap<Set<Claim>> chunks = new LongHashMap<>();
+        @Getter private final LongHashMap<ChunkClaims> claimCounts = new LongHashMap<>();
+        private int lastGeneration;
+
+        private void increment(BLocatable location) {
+            final long chunkKey = BlockUtil.toChunkKey((int)location.getX() >> 4, (int)location.getZ() >> 4);
+            final ChunkClaims existing = claimCounts.get(chunkKey);
+
+            claimCounts.put(chunkKey, new ChunkClaims((existing == null) ? 1 : existing.getCount() + 1, ++lastGeneration));
+        }
+
+        private void decrement(BLocatable location) {
+            final long chunkKey = BlockUtil.toChunkKey((int)location.getX() >> 4, (int)location.getZ() >> 4);
+            final ChunkClaims existing = claimCounts.get(chunkKey);
+
+            if (existing == null) {
+                return;
+            }
+
+            // Empty chunks fall back to generation 0, a claim added later takes a generation never used before
+            if (existing.getCount() <= 1) {
+                claimCounts.remove(chunkKey);
+                return;
+            }
+
+            claimCounts.put(chunkKey, new ChunkClaims(existing.getCount() - 1, ++lastGeneration));
+        }
+    }
+
+    /**
+     * Amount of claims inside of a chunk and the generation they were last changed at
+     *
+     * Instances are replaced rather than changed so reads through the synchronized map
+     * always see a complete value.
+     */
+    private static final class ChunkClaims {
+        @Getter private final int count;
+        @Getter private final int generation;
+
+        private ChunkClaims(int count, int generation) {
+            this.count = count;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.playares.core.claim.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.LongHashMap;
+import lombok.Getter;
+import org.bukkit.Location;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the allow or deny decision for item moves between two inventory positions
+ *
+ * Each decision records the claim generation of the source and destination chunks at
+ * the time it was made. A claim being added or removed in either chunk changes its
+ * generation, so the decision is recomputed on the next move.
+ *
+ * Also counts the checks made per source chunk so hopper heavy chunks can be found.
+ * Counters are kept in a primitive keyed map and incremented in place, so counting a
+ * check does not allocate once its chunk has been seen.
+ *
+ * This class is only accessed from the main thread.
+ */
+public final class HopperDecisionCache {
+    private static final int MAX_DECISIONS = 65536;
+
+    private final ClaimRepository repository;
+    private final Map<MoveKey, Decision> decisions;
+    private final Map<String, LongHashMap<ChunkCounter>> checkCounts;
+
+    public HopperDecisionCache(ClaimRepository repository) {
+        this.repository = repository;
+        this.decisions = Maps.newHashMap();
+        this.checkCounts = Maps.newHashMap();
+    }
+
+    /**
+     * Returns the cached decision for a move between the provided locations
+     * @param source Source Location
+     * @param dest Destination Location
+     * @return True if allowed, false if denied, null if not cached or outdated
+     */
+    public Boolean get(Location source, Location dest) {
+        final Decision decision = decisions.get(new MoveKey(source, dest));
+
+        if (decision == null) {
+            return null;
+        }
+
+        if (decision.getSourceGeneration() != getGeneration(source) || decision.getDestGeneration() != getGeneration(dest)) {
+            return null;
+        }
+
+        return decision.isAllowed();
+    }
+
+    /**
+     * Caches the decision for a move between the provided locations
+     * @param source Source Location
+     * @param dest Destination Location
+     * @param allowed True if the move is allowed
+     */
+    public void put(Location source, Location dest, boolean allowed) {
+        if (decisions.size() >= MAX_DECISIONS) {
+            decisions.clear();
+        }
+
+        decisions.put(new MoveKey(source, dest), new Decision(allowed, getGeneration(source), getGeneration(dest)));
+    }
+
+    /**
+     * Counts a check made for an item moving out of the provided location
+     * @param source Source Location
+     */
+    public void count(Location source) {
+        final String worldName = source.getWorld().getName();
+        LongHashMap<ChunkCounter> world = checkCounts.get(worldName);
+
+        if (world == null) {
+            world = new LongHashMap<>();
+            checkCounts.put(worldName, world);
+        }
+
+        final int chunkX = source.getBlockX() >> 4;
+        final int chunkZ = source.getBlockZ() >> 4;
+        final long chunkKey = BlockUtil.toChunkKey(chunkX, chunkZ);
+        ChunkCounter counter = world.get(chunkKey);
+
+        if (counter == null) {
+            counter = new ChunkCounter(chunkX, chunkZ);
+            world.put(chunkKey, counter);
+        }
+
+        counter.increment();
+    }
+
+    /**
+     * Returns an Immutable List of the check count for every counted chunk
+     * @return Immutable List of chunk labels to check counts
+     */
+    public ImmutableList<Map.Entry<String, Long>> getCheckCounts() {
+        final ImmutableList.Builder<Map.Entry<String, Long>> result = ImmutableList.builder();
+
+        checkCounts.forEach((worldName, world) -> world.forEachValue(counter ->
+                result.add(Maps.immutableEntry(worldName + " " + counter.getChunkX() + ", " + counter.getChunkZ(), counter.getCount()))));
+
+        return result.build();
+    }
+
+    /**
+     * Resets all check counters
+     */
+    public void resetCounts() {
+        checkCounts.clear();
+    }
+
+    private int getGeneration(Location location) {
+        return repository.getGeneration(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private static final class ChunkCounter {
+        @Getter private final int chunkX;
+        @Getter private final int chunkZ;
+        @Getter private long count;
+
+        private ChunkCounter(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.count = 0L;
+        }
+
+        private void increment() {
+            count++;
+        }
+    }
+
+    private static final class Decision {
+        @Getter private final boolean allowed;
+        @Getter private final int sourceGeneration;
+        @Getter private final int destGeneration;
+
+        private Decision(boolean allowed, int sourceGeneration, int destGeneration) {
+            this.allowed = allowed;
+            this.sourceGeneration = sourceGeneration;
+            this.destGeneration = destGeneration;
+        }
+    }
+
+    private static final class MoveKey {
+        private final String world;
+        private final long source;
+        private final long dest;
+
+        private MoveKey(Location source, Location dest) {
+            this.world = source.getWorld().getName();
+            this.source = BlockUtil.toPackedLong(source.getBlockX(), source.getBlockY(), source.getBlockZ());
+            this.dest = BlockUtil.toPackedLong(dest.getBlockX(), dest.getBlockY(), dest.getBlockZ());
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof MoveKey)) {
+                return false;
+            }
+
+            final MoveKey other = (MoveKey)object;
+            return source == other.source && dest == other.dest && world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, source, dest);
+        }
+    }
+}
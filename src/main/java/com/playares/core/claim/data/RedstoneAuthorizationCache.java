@@ -0,0 +1,138 @@
+package com.playares.core.claim.data;
+
+import com.google.common.collect.Maps;
+import com.playares.commons.location.BLocatable;
+import com.playares.commons.util.general.Time;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.LongHashMap;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches whether a member of a claim's owning network is near enough to power it
+ *
+ * Entries are stored per world and chunk so a player crossing in to a new chunk only
+ * clears the entries of the chunks around them. Entries also expire after a short TTL
+ * so network membership changes are picked up without a player moving.
+ *
+ * This class is only accessed from the main thread.
+ */
+public final class RedstoneAuthorizationCache {
+    private final Map<String, LongHashMap<Map<UUID, Authorization>>> worlds;
+
+    public RedstoneAuthorizationCache() {
+        this.worlds = Maps.newHashMap();
+    }
+
+    /**
+     * Returns the cached authorization for the provided claim
+     * @param claim Claim
+     * @return True if authorized, false if not, null if not cached or expired
+     */
+    public Boolean get(Claim claim) {
+        final Map<UUID, Authorization> chunk = getChunk(claim.getLocation(), false);
+
+        if (chunk == null) {
+            return null;
+        }
+
+        final Authorization authorization = chunk.get(claim.getUniqueId());
+
+        if (authorization == null) {
+            return null;
+        }
+
+        if (authorization.getExpire() <= Time.now()) {
+            chunk.remove(claim.getUniqueId());
+            return null;
+        }
+
+        return authorization.isAuthorized();
+    }
+
+    /**
+     * Caches the authorization for the provided claim
+     * @param claim Claim
+     * @param authorized True if an owning member is nearby
+     * @param ttlMillis Time to live in milliseconds
+     */
+    public void put(Claim claim, boolean authorized, long ttlMillis) {
+        getChunk(claim.getLocation(), true).put(claim.getUniqueId(), new Authorization(authorized, Time.now() + ttlMillis));
+    }
+
+    /**
+     * Clears all cached authorizations in the 3x3 chunk area around the provided chunk
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     */
+    public void invalidateAround(String worldName, int chunkX, int chunkZ) {
+        final LongHashMap<Map<UUID, Authorization>> world = worlds.get(worldName);
+
+        if (world == null) {
+            return;
+        }
+
+        for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+            for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                world.remove(BlockUtil.toChunkKey(x, z));
+            }
+        }
+    }
+
+    /**
+     * Clears all cached authorizations in the provided chunk
+     * @param worldName World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     */
+    public void invalidate(String worldName, int chunkX, int chunkZ) {
+        final LongHashMap<Map<UUID, Authorization>> world = worlds.get(worldName);
+
+        if (world != null) {
+            world.remove(BlockUtil.toChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Clears every cached authorization
+     */
+    public void clear() {
+        worlds.clear();
+    }
+
+    private Map<UUID, Authorization> getChunk(BLocatable location, boolean create) {
+        final long chunkKey = BlockUtil.toChunkKey((int)location.getX() >> 4, (int)location.getZ() >> 4);
+        LongHashMap<Map<UUID, Authorization>> world = worlds.get(location.getWorldName());
+
+        if (world == null) {
+            if (!create) {
+                return null;
+            }
+
+            world = new LongHashMap<>();
+            worlds.put(location.getWorldName(), world);
+        }
+
+        Map<UUID, Authorization> chunk = world.get(chunkKey);
+
+        if (chunk == null && create) {
+            chunk = Maps.newHashMap();
+            world.put(chunkKey, chunk);
+        }
+
+        return chunk;
+    }
+
+    private static final class Authorization {
+        @Getter private final boolean authorized;
+        @Getter private final long expire;
+
+        private Authorization(boolean authorized, long expire) {
+            this.authorized = authorized;
+            this.expire = expire;
+        }
+    }
+}
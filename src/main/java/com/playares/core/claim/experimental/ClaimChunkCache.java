@@ -0,0 +1,215 @@
+package com.playares.core.claim.experimental;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.playares.commons.util.general.Time;
+import com.playares.core.claim.data.Claim;
+import com.playares.core.utils.BlockUtil;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the claim buckets of recently unloaded chunks in memory
+ *
+ * Entries are kept in least recently used order and are evicted once they are older
+ * than the configured TTL or once the cache holds more chunks or claims than allowed.
+ * An entry is only evicted after its claims have been written back to the database,
+ * so a reload that misses the cache never reads a stale document.
+ *
+ * All methods are synchronized on the cache instance.
+ */
+public final class ClaimChunkCache {
+    private final LinkedHashMap<ChunkKey, CachedChunk> entries;
+    private int cachedClaims;
+
+    @Getter public final AtomicLong hits;
+    @Getter public final AtomicLong misses;
+    @Getter public final AtomicLong evictions;
+
+    public ClaimChunkCache() {
+        this.entries = new LinkedHashMap<>(64, 0.75F, true);
+        this.cachedClaims = 0;
+        this.hits = new AtomicLong(0L);
+        this.misses = new AtomicLong(0L);
+        this.evictions = new AtomicLong(0L);
+    }
+
+    /**
+     * Stores the claims of an unloaded chunk in the cache
+     * @param world World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @param claims Claims detached from the chunk
+     * @return Cached Chunk, call markWritten once its claims are saved
+     */
+    public synchronized CachedChunk put(String world, int chunkX, int chunkZ, Collection<Claim> claims) {
+        final CachedChunk entry = new CachedChunk(Lists.newArrayList(claims), Time.now());
+        final CachedChunk previous = entries.put(new ChunkKey(world, BlockUtil.toChunkKey(chunkX, chunkZ)), entry);
+
+        if (previous != null) {
+            cachedClaims -= previous.getClaims().size();
+        }
+
+        cachedClaims += claims.size();
+        return entry;
+    }
+
+    /**
+     * Removes and returns the claims cached for the provided chunk
+     * @param world World Name
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Immutable List of Claims, or null if the chunk is not cached
+     */
+    public synchronized ImmutableList<Claim> take(String world, int chunkX, int chunkZ) {
+        final CachedChunk entry = entries.remove(new ChunkKey(world, BlockUtil.toChunkKey(chunkX, chunkZ)));
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        cachedClaims -= entry.getClaims().size();
+        hits.incrementAndGet();
+        return ImmutableList.copyOf(entry.getClaims());
+    }
+
+    /**
+     * Removes a single claim from the cache
+     * @param claim Claim
+     */
+    public synchronized void remove(Claim claim) {
+        final CachedChunk entry = entries.get(new ChunkKey(claim.getChunkWorld(), BlockUtil.toChunkKey(claim.getChunkX(), claim.getChunkZ())));
+
+        if (entry != null && entry.getClaims().remove(claim)) {
+            cachedClaims--;
+        }
+    }
+
+    /**
+     * Returns an Immutable List of all cached claims owned by the provided network
+     * @param ownerId Network UUID
+     * @return Immutable List of Claims
+     */
+    public synchronized ImmutableList<Claim> getClaimsByOwner(UUID ownerId) {
+        final ImmutableList.Builder<Claim> result = ImmutableList.builder();
+
+        entries.values().forEach(entry -> entry.getClaims().stream().filter(claim -> claim.getOwnerId().equals(ownerId)).forEach(result::add));
+
+        return result.build();
+    }
+
+    /**
+     * Returns an Immutable List of all cached claims with unsaved changes
+     * @return Immutable List of Claims
+     */
+    public synchronized ImmutableList<Claim> getDirtyClaims() {
+        final ImmutableList.Builder<Claim> result = ImmutableList.builder();
+
+        entries.values().forEach(entry -> entry.getClaims().stream().filter(Claim::isDirty).forEach(result::add));
+
+        return result.build();
+    }
+
+    /**
+     * Evicts written entries that are older than the provided TTL or exceed the provided caps
+     * @param ttlMillis Time to live in milliseconds
+     * @param maxChunks Maximum amount of cached chunks
+     * @param maxClaims Maximum amount of cached claims
+     */
+    public synchronized void evict(long ttlMillis, int maxChunks, int maxClaims) {
+        final long now = Time.now();
+        final Iterator<CachedChunk> iterator = entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            final CachedChunk entry = iterator.next();
+            final boolean overCap = entries.size() > maxChunks || cachedClaims > maxClaims;
+            final boolean expired = (now - entry.getCachedTime()) >= ttlMillis;
+
+            if (!overCap && !expired) {
+                break;
+            }
+
+            if (!entry.isWritten()) {
+                continue;
+            }
+
+            iterator.remove();
+            cachedClaims -= entry.getClaims().size();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return Amount of cached chunks
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Amount of cached claims
+     */
+    public synchronized int getCachedClaims() {
+        return cachedClaims;
+    }
+
+    /**
+     * Removes every entry from the cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+        cachedClaims = 0;
+    }
+
+    public static final class CachedChunk {
+        @Getter private final List<Claim> claims;
+        @Getter private final long cachedTime;
+        @Getter private volatile boolean written;
+
+        private CachedChunk(List<Claim> claims, long cachedTime) {
+            this.claims = claims;
+            this.cachedTime = cachedTime;
+            this.written = false;
+        }
+
+        /**
+         * Marks this entry as safe to evict
+         */
+        public void markWritten() {
+            this.written = true;
+        }
+    }
+
+    private static final class ChunkKey {
+        private final String world;
+        private final long key;
+
+        private ChunkKey(String world, long key) {
+            this.world = world;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof ChunkKey)) {
+                return false;
+            }
+
+            final ChunkKey other = (ChunkKey)object;
+            return key == other.key && world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, key);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.playares.core.claim.experimental;
+
+import com.google.common.collect.Maps;
+import com.playares.commons.util.bukkit.Scheduler;
+import com.playares.commons.util.general.Time;
+import com.playares.core.claim.experimental.data.QueuedChunk;
+import com.playares.core.claim.experimental.data.QueuedChunkStatus;
+import com.playares.core.configs.type.ClaimsConfig;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queues claim loads for chunks ahead of moving players
+ *
+ * Each run compares every player's position to their position on the previous run
+ * and uses the difference as their velocity. Chunks just beyond the view distance
+ * along that heading are queued with the prefetched flag set, so their claims are
+ * usually attached before Bukkit fires the ChunkLoadEvent for them.
+ *
+ * Prefetched chunks that are never loaded are unloaded again once they expire.
+ */
+public final class ClaimPrefetcher {
+    @Getter public final ExperimentalLoadManager loadManager;
+    @Getter public final Map<UUID, Location> lastLocations;
+    @Getter public final AtomicLong hits;
+    @Getter public final AtomicLong misses;
+    @Getter public final AtomicLong issued;
+    @Getter public final AtomicLong expired;
+    @Getter public final BukkitTask prefetchTask;
+
+    public ClaimPrefetcher(ExperimentalLoadManager loadManager) {
+        this.loadManager = loadManager;
+        this.lastLocations = Maps.newHashMap();
+        this.hits = new AtomicLong(0L);
+        this.misses = new AtomicLong(0L);
+        this.issued = new AtomicLong(0L);
+        this.expired = new AtomicLong(0L);
+
+        final long interval = Math.max(1, getConfig().getPrefetchInterval());
+
+        this.prefetchTask = new Scheduler(loadManager.getManager().getPlugin()).sync(() -> {
+            if (!getConfig().isPrefetchEnabled()) {
+                lastLocations.clear();
+                return;
+            }
+
+            lastLocations.keySet().removeIf(uniqueId -> Bukkit.getPlayer(uniqueId) == null);
+
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                final Location location = player.getLocation();
+                final Location previous = lastLocations.put(player.getUniqueId(), location);
+
+                if (previous == null || !previous.getWorld().equals(location.getWorld())) {
+                    continue;
+                }
+
+                prefetch(location, location.getX() - previous.getX(), location.getZ() - previous.getZ(), interval);
+            }
+
+            expire();
+        }).repeat(interval, interval).run();
+    }
+
+    /**
+     * Returns the percentage of chunk loads that found their claims already attached
+     * @return Hit rate between 0 and 100
+     */
+    public double getHitRate() {
+        final long total = hits.get() + misses.get();
+
+        if (total == 0) {
+            return 0.0;
+        }
+
+        return (hits.get() * 100.0) / total;
+    }
+
+    /**
+     * Queues the chunks ahead of the provided location along the provided movement
+     * @param location Current location
+     * @param deltaX Blocks moved on the X axis since the last run
+     * @param deltaZ Blocks moved on the Z axis since the last run
+     * @param interval Ticks between runs
+     */
+    private void prefetch(Location location, double deltaX, double deltaZ, long interval) {
+        final double distance = Math.sqrt(deltaX * deltaX + deltaZ * deltaZ);
+
+        if ((distance / interval) < getConfig().getPrefetchMinSpeed()) {
+            return;
+        }
+
+        final World world = location.getWorld();
+        final double headingX = deltaX / distance;
+        final double headingZ = deltaZ / distance;
+        final int viewDistance = Bukkit.getViewDistance();
+        final int radius = Math.max(0, getConfig().getPrefetchRadius());
+
+        for (int ahead = viewDistance; ahead <= viewDistance + radius; ahead++) {
+            final double aheadX = location.getX() + (headingX * ahead * 16);
+            final double aheadZ = location.getZ() + (headingZ * ahead * 16);
+
+            for (int side = -1; side <= 1; side++) {
+                final int chunkX = (int)Math.floor(aheadX - (headingZ * side * 16)) >> 4;
+                final int chunkZ = (int)Math.floor(aheadZ + (headingX * side * 16)) >> 4;
+
+                if (world.isChunkLoaded(chunkX, chunkZ) || loadManager.getChunkAt(chunkX, chunkZ, world.getName()) != null) {
+                    continue;
+                }
+
+                final QueuedChunk queued = new QueuedChunk(QueuedChunkStatus.LOAD, chunkX, chunkZ, world.getName());
+                queued.setPrefetched(true);
+                loadManager.addChunk(queued);
+                issued.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Promotes prefetched chunks that have since been loaded and unloads the ones
+     * which have not been loaded within the configured expire time
+     */
+    private void expire() {
+        final long expireMillis = getConfig().getPrefetchExpireSeconds() * 1000L;
+
+        for (QueuedChunk queued : loadManager.getChunks(QueuedChunkStatus.PREFETCHED)) {
+            final World world = Bukkit.getWorld(queued.getWorld());
+
+            if (world != null && world.isChunkLoaded(queued.getX(), queued.getZ())) {
+                queued.setPrefetched(false);
+                queued.setStatus(QueuedChunkStatus.READY);
+                continue;
+            }
+
+            if ((Time.now() - queued.getQueuedTime()) >= expireMillis) {
+                queued.setStatus(QueuedChunkStatus.UNLOAD);
+                expired.incrementAndGet();
+            }
+        }
+    }
+
+    private ClaimsConfig getConfig() {
+        return loadManager.getManager().getPlugin().getConfigManager().getClaimsConfig();
+    }
+}
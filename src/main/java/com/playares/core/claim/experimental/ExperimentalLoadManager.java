@@ -1,8 +1,11 @@
 package com.playares.core.claim.experimental;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.core.claim.ClaimManager;
 import com.playares.core.claim.data.Claim;
@@ -10,6 +13,9 @@ import com.playares.core.claim.data.ClaimDAO;
 import com.playares.core.claim.experimental.data.QueuedChunk;
 import com.playares.core.claim.experimental.data.QueuedChunkStatus;
 import com.playares.core.claim.experimental.listener.ExperimentalLoadListener;
+import com.playares.core.configs.type.ClaimsConfig;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.LongHashMap;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.bukkit.Bukkit;
@@ -18,57 +24,219 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @AllArgsConstructor
 public final class ExperimentalLoadManager {
     @Getter public final ClaimManager manager;
-    @Getter public final Set<QueuedChunk> queuedChunks;
+    @Getter public final Map<String, LongHashMap<QueuedChunk>> queuedChunks;
+    @Getter public final ExecutorService loaderPool;
+    @Getter public final ExecutorService writerPool;
+    @Getter public final ClaimChunkCache chunkCache;
     @Getter public final BukkitTask queueProcessor;
+    @Getter public final ClaimPrefetcher prefetcher;
 
     public ExperimentalLoadManager(ClaimManager manager) {
         this.manager = manager;
-        this.queuedChunks = Sets.newConcurrentHashSet();
+        this.queuedChunks = Maps.newConcurrentMap();
+        this.loaderPool = Executors.newFixedThreadPool(
+                Math.max(1, manager.getPlugin().getConfigManager().getClaimsConfig().getChunkLoadWorkerThreads()),
+                new ThreadFactoryBuilder().setNameFormat("Ares Claim Loader #%d").setDaemon(true).build());
+        this.writerPool = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Ares Claim Writer").setDaemon(true).build());
+        this.chunkCache = new ClaimChunkCache();
+
         this.queueProcessor = new Scheduler(manager.getPlugin()).async(() -> {
 
-            // Handles loading new chunks in to memory
+            final ClaimsConfig config = manager.getPlugin().getConfigManager().getClaimsConfig();
+
+            // Handles loading new chunks in to memory, served from the cache when possible and otherwise batched per world
             final Set<QueuedChunk> load = getChunks(QueuedChunkStatus.LOAD);
-            load.forEach(loadEntry -> {
-                loadEntry.setStatus(QueuedChunkStatus.READY);
 
-                final Collection<Claim> toLoad = ClaimDAO.getChunkClaims(manager.getPlugin().getDatabaseInstance(), loadEntry.getX(), loadEntry.getZ(), loadEntry.getWorld());
+            if (!load.isEmpty()) {
+                final int batchSize = Math.max(1, config.getChunkLoadBatchSize());
+                final Map<String, List<QueuedChunk>> loadByWorld = Maps.newHashMap();
 
-                manager.getClaimRepository().addAll(toLoad);
-            });
+                load.forEach(loadEntry -> {
+                    synchronized (loadEntry) {
+                        // Chunk unloaded since it was collected, its claims stay in the cache for the next load
+                        if (!isQueued(loadEntry)) {
+                            return;
+                        }
+
+                        final List<Claim> cached = config.isChunkCacheEnabled() ? chunkCache.take(loadEntry.getWorld(), loadEntry.getX(), loadEntry.getZ()) : null;
+
+                        if (cached != null) {
+                            manager.getClaimRepository().attachChunk(loadEntry.getWorld(), loadEntry.getX(), loadEntry.getZ(), cached);
+                            loadEntry.setStatus(loadEntry.isPrefetched() ? QueuedChunkStatus.PREFETCHED : QueuedChunkStatus.READY);
+                            return;
+                        }
+
+                        loadEntry.setStatus(QueuedChunkStatus.LOADING);
+                    }
+
+                    loadByWorld.computeIfAbsent(loadEntry.getWorld(), world -> Lists.newArrayList()).add(loadEntry);
+                });
+
+                loadByWorld.forEach((world, chunks) -> Lists.partition(chunks, batchSize).forEach(batch -> {
+                    final List<QueuedChunk> snapshot = ImmutableList.copyOf(batch);
+                    loaderPool.submit(() -> loadBatch(world, snapshot));
+                }));
+            }
 
-            // Handles unloading chunks from memory to the database
+            // Handles unloading chunks from memory, claims are kept in the cache and written back on the writer thread
             final Set<QueuedChunk> unload = getChunks(QueuedChunkStatus.UNLOAD);
-            final List<Claim> toRemove = Lists.newArrayList();
+            final List<Claim> toSave = Lists.newArrayList();
 
-            unload.forEach(unloadEntry -> toRemove.addAll(manager.getClaimByChunk(unloadEntry.getX(), unloadEntry.getZ(), unloadEntry.getWorld())));
+            unload.forEach(unloadEntry -> {
+                final List<Claim> detached = manager.getClaimRepository().detachChunk(unloadEntry.getWorld(), unloadEntry.getX(), unloadEntry.getZ());
 
-            if (!toRemove.isEmpty()) {
-                manager.getClaimRepository().removeAll(toRemove);
-                ClaimDAO.saveClaims(manager.getPlugin().getDatabaseInstance(), toRemove);
+                if (!config.isChunkCacheEnabled()) {
+                    toSave.addAll(detached);
+                    return;
+                }
+
+                final ClaimChunkCache.CachedChunk cachedChunk = chunkCache.put(unloadEntry.getWorld(), unloadEntry.getX(), unloadEntry.getZ(), detached);
+
+                if (detached.stream().noneMatch(Claim::isDirty)) {
+                    cachedChunk.markWritten();
+                    return;
+                }
+
+                writerPool.submit(() -> {
+                    manager.getHandler().saveDirty(detached);
+
+                    // Failed writes keep the entry pinned in the cache until the claims are saved
+                    if (detached.stream().noneMatch(Claim::isDirty)) {
+                        cachedChunk.markWritten();
+                    }
+                });
+            });
+
+            if (!toSave.isEmpty()) {
+                writerPool.submit(() -> manager.getHandler().saveDirty(toSave));
             }
 
-            queuedChunks.removeAll(unload);
+            unload.forEach(this::removeChunk);
+
+            if (config.isChunkCacheEnabled()) {
+                chunkCache.evict(config.getChunkCacheTtlSeconds() * 1000L, config.getChunkCacheMaxChunks(), config.getChunkCacheMaxClaims());
+            } else if (chunkCache.size() > 0) {
+                chunkCache.evict(0L, 0, 0);
+            }
 
         }).repeat(0L, 1L).run();
 
+        this.prefetcher = new ClaimPrefetcher(this);
+
         Bukkit.getPluginManager().registerEvents(new ExperimentalLoadListener(this), manager.getPlugin());
     }
 
+    /**
+     * Loads the claims for a batch of chunks in the same world using a single query
+     *
+     * Chunks are marked as ready once their claims are attached, chunks queued by the
+     * prefetcher are marked as prefetched instead. If the query fails the chunks are
+     * returned to the queue to be retried on the next cycle.
+     *
+     * @param world World Name
+     * @param batch Chunks to load
+     */
+    private void loadBatch(String world, List<QueuedChunk> batch) {
+        try {
+            final Collection<Claim> claims = ClaimDAO.getChunkClaims(manager.getPlugin().getDatabaseInstance(), world, batch);
+            final Map<Long, List<Claim>> buckets = Maps.newHashMap();
+
+            claims.forEach(claim -> buckets.computeIfAbsent(BlockUtil.toChunkKey(claim.getChunkX(), claim.getChunkZ()), key -> Lists.newArrayList()).add(claim));
+
+            batch.forEach(chunk -> {
+                final List<Claim> bucket = buckets.get(BlockUtil.toChunkKey(chunk.getX(), chunk.getZ()));
+
+                synchronized (chunk) {
+                    // Chunk unloaded while its claims were being read, attaching them now would leave them with no unload to detach them
+                    if (!isQueued(chunk)) {
+                        return;
+                    }
+
+                    if (bucket != null) {
+                        manager.getClaimRepository().attachChunk(world, chunk.getX(), chunk.getZ(), bucket);
+                    }
+
+                    chunk.setStatus(chunk.isPrefetched() ? QueuedChunkStatus.PREFETCHED : QueuedChunkStatus.READY);
+                }
+            });
+        } catch (Exception ex) {
+            Logger.error("Failed to load claims for " + batch.size() + " chunks in " + world + ": " + ex.getMessage());
+
+            batch.forEach(chunk -> {
+                synchronized (chunk) {
+                    if (isQueued(chunk)) {
+                        chunk.setStatus(QueuedChunkStatus.LOAD);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns true if the provided chunk has not been cancelled and is still the queued entry for its position
+     * @param chunk Queued Chunk
+     * @return True if still queued
+     */
+    private boolean isQueued(QueuedChunk chunk) {
+        return !chunk.isCancelled() && getChunkAt(chunk.getX(), chunk.getZ(), chunk.getWorld()) == chunk;
+    }
+
+    /**
+     * Adds a chunk to the queue
+     * @param chunk Queued Chunk
+     */
+    public void addChunk(QueuedChunk chunk) {
+        queuedChunks.computeIfAbsent(chunk.getWorld(), world -> new LongHashMap<>()).put(BlockUtil.toChunkKey(chunk.getX(), chunk.getZ()), chunk);
+    }
+
+    /**
+     * Removes a chunk from the queue
+     * @param chunk Queued Chunk
+     */
+    public void removeChunk(QueuedChunk chunk) {
+        final LongHashMap<QueuedChunk> worldChunks = queuedChunks.get(chunk.getWorld());
+
+        if (worldChunks != null) {
+            worldChunks.remove(BlockUtil.toChunkKey(chunk.getX(), chunk.getZ()), chunk);
+        }
+    }
+
     public QueuedChunk getChunkAt(int x, int z, String world) {
-        return queuedChunks.stream().filter(chunk -> chunk.getX() == x && chunk.getZ() == z && chunk.getWorld().equals(world)).findFirst().orElse(null);
+        final LongHashMap<QueuedChunk> worldChunks = queuedChunks.get(world);
+
+        if (worldChunks == null) {
+            return null;
+        }
+
+        return worldChunks.get(BlockUtil.toChunkKey(x, z));
     }
 
     public QueuedChunk getChunkAt(Chunk chunk) {
         return getChunkAt(chunk.getX(), chunk.getZ(), chunk.getWorld().getName());
     }
 
-    private ImmutableSet<QueuedChunk> getChunks(QueuedChunkStatus status) {
-        return ImmutableSet.copyOf(queuedChunks.stream().filter(chunk -> chunk.getStatus().equals(status)).collect(Collectors.toList()));
+    /**
+     * Returns an Immutable Set of all queued chunks matching the provided status
+     * @param status Status
+     * @return Immutable Set of Queued Chunks
+     */
+    public ImmutableSet<QueuedChunk> getChunks(QueuedChunkStatus status) {
+        final ImmutableSet.Builder<QueuedChunk> result = ImmutableSet.builder();
+
+        queuedChunks.values().forEach(worldChunks -> worldChunks.forEachValue(chunk -> {
+            if (chunk.getStatus().equals(status)) {
+                result.add(chunk);
+            }
+        }));
+
+        return result.build();
     }
-}
\ No newline at end of file
+}
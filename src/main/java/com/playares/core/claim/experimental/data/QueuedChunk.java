@@ -1,19 +1,31 @@
 package com.playares.core.claim.experimental.data;
 
-import lombok.AllArgsConstructor;
+import com.playares.commons.util.general.Time;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 
-@AllArgsConstructor
 public final class QueuedChunk {
-    @Getter @Setter public QueuedChunkStatus status;
+    @Getter @Setter public volatile QueuedChunkStatus status;
     @Getter public final int x;
     @Getter public final int z;
     @Getter public final String world;
+    @Getter @Setter public volatile boolean prefetched;
+    @Getter @Setter public volatile boolean cancelled;
+    @Getter public final long queuedTime;
+
+    public QueuedChunk(QueuedChunkStatus status, int x, int z, String world) {
+        this.status = status;
+        this.x = x;
+        this.z = z;
+        this.world = world;
+        this.prefetched = false;
+        this.cancelled = false;
+        this.queuedTime = Time.now();
+    }
 
     public Chunk getBukkit() {
         return Bukkit.getWorld(world).getChunkAt(x, z);
     }
-}
\ No newline at end of file
+}
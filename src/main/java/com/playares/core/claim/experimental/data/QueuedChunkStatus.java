@@ -2,6 +2,8 @@ package com.playares.core.claim.experimental.data;
 
 public enum QueuedChunkStatus {
     LOAD,
+    LOADING,
     READY,
+    PREFETCHED,
     UNLOAD
 }
@@ -27,10 +27,22 @@ public final class ExperimentalLoadListener implements Listener {
 
         if (queued == null) {
             final QueuedChunk newQueue = new QueuedChunk(QueuedChunkStatus.LOAD, chunk.getX(), chunk.getZ(), chunk.getWorld().getName());
-            manager.getQueuedChunks().add(newQueue);
+            manager.addChunk(newQueue);
+            manager.getPrefetcher().getMisses().incrementAndGet();
             return;
         }
 
+        if (queued.getStatus().equals(QueuedChunkStatus.PREFETCHED) || queued.getStatus().equals(QueuedChunkStatus.READY)) {
+            queued.setPrefetched(false);
+            queued.setStatus(QueuedChunkStatus.READY);
+            manager.getPrefetcher().getHits().incrementAndGet();
+            return;
+        }
+
+        // Chunk is still waiting on the loader, make sure it is marked ready once it finishes
+        queued.setPrefetched(false);
+        manager.getPrefetcher().getMisses().incrementAndGet();
+
         if (queued.getStatus().equals(QueuedChunkStatus.UNLOAD)) {
             queued.setStatus(QueuedChunkStatus.LOAD);
         }
@@ -45,11 +57,25 @@ public final class ExperimentalLoadListener implements Listener {
         final Chunk chunk = event.getChunk();
         final QueuedChunk queued = manager.getChunkAt(chunk);
 
-        if (queued == null || !queued.getStatus().equals(QueuedChunkStatus.READY)) {
+        if (queued == null) {
             return;
         }
 
-        queued.setStatus(QueuedChunkStatus.UNLOAD);
+        // Locked against the loader so claims are either attached before this check or never attached
+        synchronized (queued) {
+            // Claims were never attached, nothing to persist
+            if (queued.getStatus().equals(QueuedChunkStatus.LOAD) || queued.getStatus().equals(QueuedChunkStatus.LOADING)) {
+                queued.setCancelled(true);
+                manager.removeChunk(queued);
+                return;
+            }
+
+            if (!queued.getStatus().equals(QueuedChunkStatus.READY) && !queued.getStatus().equals(QueuedChunkStatus.PREFETCHED)) {
+                return;
+            }
+
+            queued.setStatus(QueuedChunkStatus.UNLOAD);
+        }
     }
 
     @EventHandler
@@ -59,10 +85,9 @@ public final class ExperimentalLoadListener implements Listener {
         final Chunk chunk = block.getChunk();
         final QueuedChunk queued = manager.getChunkAt(chunk);
 
-        if (queued == null) {
+        if (queued == null || queued.getStatus().equals(QueuedChunkStatus.LOAD) || queued.getStatus().equals(QueuedChunkStatus.LOADING)) {
             event.setCancelled(true);
             player.sendMessage(ChatColor.RED + "This chunk has not been processed yet");
-            return;
         }
     }
 }
\ No newline at end of file
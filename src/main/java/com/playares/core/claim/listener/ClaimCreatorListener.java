@@ -129,7 +129,7 @@ public final class ClaimCreatorListener implements Listener {
 
         blocks.forEach(claimBlock -> {
             final Claim claim = new Claim(network.getUniqueId(), block.getChunk().getX(), block.getChunk().getZ(), new BLocatable(claimBlock), session.getClaimType());
-            manager.getClaimRepository().add(claim);
+            manager.addClaim(claim);
             block.getWorld().spigot().playEffect(claimBlock.getLocation(), Effect.FLYING_GLYPH, 0, 0, (float)1.0, (float)0.5, (float)1.0, (float)0.01, 15, 8);
         });
     }
@@ -233,7 +233,7 @@ public final class ClaimCreatorListener implements Listener {
 
             else {
                 final Claim claim = new Claim(network.getUniqueId(), block.getChunk().getX(), block.getChunk().getZ(), new BLocatable(claimBlock), session.getClaimType());
-                manager.getClaimRepository().add(claim);
+                manager.addClaim(claim);
                 block.getWorld().spigot().playEffect(claimBlock.getLocation(), Effect.FLYING_GLYPH, 0, 0, (float)1.0, (float)0.5, (float)1.0, (float)0.01, 20, 6);
             }
         });
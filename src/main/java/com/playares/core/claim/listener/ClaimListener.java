@@ -1,9 +1,9 @@
 package com.playares.core.claim.listener;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.playares.commons.item.ItemBuilder;
-import com.playares.commons.location.BLocatable;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Blocks;
 import com.playares.commons.util.bukkit.Scheduler;
@@ -37,6 +37,7 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -167,13 +168,13 @@ public final class ClaimListener implements Listener {
             final ItemStack reinforcement = new ItemBuilder().setMaterial(claim.getType().getMaterial()).setAmount(multiBlocks.size()).build();
             block.getWorld().dropItemNaturally(block.getLocation(), reinforcement);
 
-            manager.getClaimRepository().remove(claim);
+            manager.removeClaim(claim);
             new Scheduler(manager.getPlugin()).async(() -> ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), claim)).run();
 
             if (!otherClaims.isEmpty()) {
                 otherClaims.forEach(otherClaim -> {
                     new Scheduler(manager.getPlugin()).async(() -> ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), otherClaim)).run();
-                    manager.getClaimRepository().remove(otherClaim);
+                    manager.removeClaim(otherClaim);
                 });
             }
 
@@ -184,13 +185,13 @@ public final class ClaimListener implements Listener {
             final ItemStack reinforcement = new ItemBuilder().setMaterial(claim.getType().getMaterial()).setAmount(multiBlocks.size()).build();
             block.getWorld().dropItemNaturally(block.getLocation(), reinforcement);
 
-            manager.getClaimRepository().remove(claim);
+            manager.removeClaim(claim);
             new Scheduler(manager.getPlugin()).async(() -> ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), claim)).run();
 
             if (!otherClaims.isEmpty()) {
                 otherClaims.forEach(otherClaim -> {
                     new Scheduler(manager.getPlugin()).async(() -> ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), otherClaim)).run();
-                    manager.getClaimRepository().remove(otherClaim);
+                    manager.removeClaim(otherClaim);
                 });
             }
 
@@ -284,24 +285,30 @@ public final class ClaimListener implements Listener {
         final Location source = getInventoryLocation(sourceHolder);
         final Location dest = getInventoryLocation(destHolder);
 
-        if (source != null && dest != null) {
-            final Block sourceBlock = source.getBlock();
-            final Block destBlock = dest.getBlock();
+        if (source == null || dest == null) {
+            return;
+        }
 
-            final Claim sourceClaim = manager.getClaimByBlock(sourceBlock);
-            final Claim destClaim = manager.getClaimByBlock(destBlock);
+        manager.getHopperCache().count(source);
 
-            if (sourceClaim != null) {
-                if (destClaim == null) {
-                    event.setCancelled(true);
-                    return;
-                }
+        final Boolean cached = manager.getHopperCache().get(source, dest);
 
-                if (!destClaim.getOwnerId().equals(sourceClaim.getOwnerId())) {
-                    event.setCancelled(true);
-                    return;
-                }
+        if (cached != null) {
+            if (!cached) {
+                event.setCancelled(true);
             }
+
+            return;
+        }
+
+        final Claim sourceClaim = manager.getClaimByBlock(source.getWorld().getName(), source.getBlockX(), source.getBlockY(), source.getBlockZ());
+        final Claim destClaim = manager.getClaimByBlock(dest.getWorld().getName(), dest.getBlockX(), dest.getBlockY(), dest.getBlockZ());
+        final boolean allowed = sourceClaim == null || (destClaim != null && destClaim.getOwnerId().equals(sourceClaim.getOwnerId()));
+
+        manager.getHopperCache().put(source, dest, allowed);
+
+        if (!allowed) {
+            event.setCancelled(true);
         }
     }
 
@@ -402,6 +409,7 @@ public final class ClaimListener implements Listener {
 
         final Block piston = event.getBlock();
         final Claim claim = manager.getClaimByBlock(piston);
+        final Map<Claim, Block> moves = Maps.newHashMap();
 
         for (Block affected : event.getBlocks()) {
             final Claim affectedClaim = manager.getClaimByBlock(affected);
@@ -417,12 +425,13 @@ public final class ClaimListener implements Listener {
             }
 
             if (affectedClaim != null) {
-                final Block newBlock = affected.getRelative(event.getDirection());
-                affectedClaim.setLocation(new BLocatable(newBlock));
-                affectedClaim.setChunkX(newBlock.getChunk().getX());
-                affectedClaim.setChunkX(newBlock.getChunk().getZ());
+                moves.put(affectedClaim, affected.getRelative(event.getDirection()));
             }
         }
+
+        if (!moves.isEmpty()) {
+            manager.moveClaims(moves);
+        }
     }
 
     @EventHandler (priority = EventPriority.HIGH)
@@ -433,6 +442,7 @@ public final class ClaimListener implements Listener {
 
         final Block piston = event.getBlock();
         final Claim claim = manager.getClaimByBlock(piston);
+        final Map<Claim, Block> moves = Maps.newHashMap();
 
         for (Block affected : event.getBlocks()) {
             final Claim affectedClaim = manager.getClaimByBlock(affected);
@@ -448,12 +458,13 @@ public final class ClaimListener implements Listener {
             }
 
             if (affectedClaim != null) {
-                final Block newBlock = affected.getRelative(event.getDirection());
-                affectedClaim.setLocation(new BLocatable(newBlock));
-                affectedClaim.setChunkX(newBlock.getChunk().getX());
-                affectedClaim.setChunkX(newBlock.getChunk().getZ());
+                moves.put(affectedClaim, affected.getRelative(event.getDirection()));
             }
         }
+
+        if (!moves.isEmpty()) {
+            manager.moveClaims(moves);
+        }
     }
 
     @EventHandler (priority = EventPriority.HIGH)
@@ -529,6 +540,11 @@ public final class ClaimListener implements Listener {
     @EventHandler
     public void onBlockRedstone(BlockRedstoneEvent event) {
         final Block block = event.getBlock();
+
+        if (!manager.hasClaimsNear(block)) {
+            return;
+        }
+
         final List<Block> multiBlocks = BlockUtil.getMultiblockLocations(block);
 
         for (Block b : multiBlocks) {
@@ -542,14 +558,33 @@ public final class ClaimListener implements Listener {
                 continue;
             }
 
-            final Network owner = manager.getPlugin().getNetworkManager().getNetworkByID(claim.getOwnerId());
-
-            if (owner == null) {
-                continue;
+            if (!isRedstoneAuthorized(claim, b)) {
+                event.setNewCurrent(0);
+                return;
             }
+        }
+    }
 
-            boolean valid = false;
+    /**
+     * Returns true if a member of the network owning the provided claim is within 5 blocks of it
+     *
+     * Results are cached per claim until a player moves between chunks nearby or the cache TTL expires
+     *
+     * @param claim Claim
+     * @param block Claimed Bukkit Block
+     * @return True if authorized
+     */
+    private boolean isRedstoneAuthorized(Claim claim, Block block) {
+        final Boolean cached = manager.getRedstoneCache().get(claim);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final Network owner = manager.getPlugin().getNetworkManager().getNetworkByID(claim.getOwnerId());
+        boolean valid = (owner == null);
 
+        if (owner != null) {
             for (Entity entity : block.getWorld().getNearbyEntities(block.getLocation(), 5, 5, 5)) {
                 if (!(entity instanceof Player)) {
                     continue;
@@ -562,12 +597,10 @@ public final class ClaimListener implements Listener {
                     break;
                 }
             }
-
-            if (!valid) {
-                event.setNewCurrent(0);
-                return;
-            }
         }
+
+        manager.getRedstoneCache().put(claim, valid, manager.getPlugin().getConfigManager().getClaimsConfig().getRedstoneCacheTtlSeconds() * 1000L);
+        return valid;
     }
 
     /**
@@ -0,0 +1,76 @@
+package com.playares.core.claim.listener;
+
+import com.playares.commons.event.PlayerBigMoveEvent;
+import com.playares.core.claim.ClaimManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+@AllArgsConstructor
+public final class RedstoneAuthorizationListener implements Listener {
+    @Getter public final ClaimManager manager;
+
+    /**
+     * Clears cached redstone authorizations around the provided location
+     * @param location Bukkit Location
+     */
+    private void invalidate(Location location) {
+        manager.getRedstoneCache().invalidateAround(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onPlayerMove(PlayerBigMoveEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        final Location from = event.getFrom();
+        final Location to = event.getTo();
+
+        // Only sections of 16 blocks matter, the authorization radius is 5 blocks
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4) && (from.getBlockY() >> 4) == (to.getBlockY() >> 4) && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)) {
+            return;
+        }
+
+        invalidate(from);
+        invalidate(to);
+    }
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        invalidate(event.getFrom());
+        invalidate(event.getTo());
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        invalidate(event.getPlayer().getLocation());
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getLocation());
+    }
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        final Chunk chunk = event.getChunk();
+        manager.getRedstoneCache().invalidate(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+}
@@ -3,16 +3,23 @@ package com.playares.core.command;
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.CommandHelp;
 import co.aikar.commands.annotation.*;
+import com.google.common.collect.Lists;
 import com.playares.commons.promise.SimplePromise;
 import com.playares.commons.util.general.Time;
 import com.playares.core.Ares;
 import com.playares.core.claim.data.ClaimType;
+import com.playares.core.claim.data.HopperDecisionCache;
+import com.playares.core.claim.experimental.ClaimChunkCache;
+import com.playares.core.claim.experimental.ClaimPrefetcher;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+import java.util.Map;
+
 @AllArgsConstructor
 @CommandAlias("claim")
 public final class ClaimCommand extends BaseCommand {
@@ -105,6 +112,78 @@ public final class ClaimCommand extends BaseCommand {
         player.sendMessage(ChatColor.RESET + " ");
     }
 
+    @Subcommand("prefetch")
+    @Description("View claim prefetch statistics")
+    @CommandPermission("arescore.admin")
+    public void onPrefetch(CommandSender sender) {
+        final ClaimPrefetcher prefetcher = plugin.getClaimManager().getExperimentalLoadManager().getPrefetcher();
+
+        sender.sendMessage(ChatColor.RESET + " ");
+        sender.sendMessage(ChatColor.BLUE + "Claim Prefetch" + ChatColor.AQUA + ":");
+        sender.sendMessage(ChatColor.AQUA + "Enabled" + ChatColor.YELLOW + ": " + plugin.getConfigManager().getClaimsConfig().isPrefetchEnabled());
+        sender.sendMessage(ChatColor.AQUA + "Radius" + ChatColor.YELLOW + ": " + plugin.getConfigManager().getClaimsConfig().getPrefetchRadius() + " chunks");
+        sender.sendMessage(ChatColor.AQUA + "Hit Rate" + ChatColor.YELLOW + ": " + String.format("%.2f", prefetcher.getHitRate()) + "%");
+        sender.sendMessage(ChatColor.AQUA + "Hits" + ChatColor.YELLOW + ": " + prefetcher.getHits().get());
+        sender.sendMessage(ChatColor.AQUA + "Misses" + ChatColor.YELLOW + ": " + prefetcher.getMisses().get());
+        sender.sendMessage(ChatColor.AQUA + "Issued" + ChatColor.YELLOW + ": " + prefetcher.getIssued().get());
+        sender.sendMessage(ChatColor.AQUA + "Expired" + ChatColor.YELLOW + ": " + prefetcher.getExpired().get());
+        sender.sendMessage(ChatColor.RESET + " ");
+    }
+
+    @Subcommand("cache")
+    @Description("View unloaded claim chunk cache statistics")
+    @CommandPermission("arescore.admin")
+    public void onCache(CommandSender sender) {
+        final ClaimChunkCache cache = plugin.getClaimManager().getExperimentalLoadManager().getChunkCache();
+        final long hits = cache.getHits().get();
+        final long total = hits + cache.getMisses().get();
+
+        sender.sendMessage(ChatColor.RESET + " ");
+        sender.sendMessage(ChatColor.BLUE + "Claim Chunk Cache" + ChatColor.AQUA + ":");
+        sender.sendMessage(ChatColor.AQUA + "Enabled" + ChatColor.YELLOW + ": " + plugin.getConfigManager().getClaimsConfig().isChunkCacheEnabled());
+        sender.sendMessage(ChatColor.AQUA + "Cached" + ChatColor.YELLOW + ": " + cache.size() + " chunks, " + cache.getCachedClaims() + " claims");
+        sender.sendMessage(ChatColor.AQUA + "Hit Rate" + ChatColor.YELLOW + ": " + String.format("%.2f", (total == 0 ? 0.0 : (hits * 100.0) / total)) + "%");
+        sender.sendMessage(ChatColor.AQUA + "Hits" + ChatColor.YELLOW + ": " + hits);
+        sender.sendMessage(ChatColor.AQUA + "Misses" + ChatColor.YELLOW + ": " + cache.getMisses().get());
+        sender.sendMessage(ChatColor.AQUA + "Evictions" + ChatColor.YELLOW + ": " + cache.getEvictions().get());
+        sender.sendMessage(ChatColor.RESET + " ");
+    }
+
+    @Subcommand("backlog")
+    @Description("View the amount of claims waiting to be saved")
+    @CommandPermission("arescore.admin")
+    public void onBacklog(CommandSender sender) {
+        sender.sendMessage(ChatColor.AQUA + "Dirty Claims" + ChatColor.YELLOW + ": " + plugin.getClaimManager().getHandler().getDirtyCount());
+        sender.sendMessage(ChatColor.AQUA + "Flush Interval" + ChatColor.YELLOW + ": " + plugin.getConfigManager().getClaimsConfig().getWriteBehindInterval() + "s, " + plugin.getConfigManager().getClaimsConfig().getWriteBehindBatchSize() + " claims per flush");
+    }
+
+    @Subcommand("hoppers")
+    @Syntax("[reset]")
+    @Description("View the chunks with the most hopper claim checks")
+    @CommandPermission("arescore.admin")
+    public void onHoppers(CommandSender sender, @Optional String reset) {
+        final HopperDecisionCache cache = plugin.getClaimManager().getHopperCache();
+
+        if (reset != null && reset.equalsIgnoreCase("reset")) {
+            cache.resetCounts();
+            sender.sendMessage(ChatColor.YELLOW + "Hopper check counters have been reset");
+            return;
+        }
+
+        final List<Map.Entry<String, Long>> chunks = Lists.newArrayList(cache.getCheckCounts());
+
+        chunks.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        sender.sendMessage(ChatColor.RESET + " ");
+        sender.sendMessage(ChatColor.BLUE + "Hopper Checks by Chunk" + ChatColor.AQUA + ":");
+
+        for (Map.Entry<String, Long> chunk : chunks.subList(0, Math.min(10, chunks.size()))) {
+            sender.sendMessage(ChatColor.AQUA + chunk.getKey() + ChatColor.YELLOW + ": " + chunk.getValue() + " checks");
+        }
+
+        sender.sendMessage(ChatColor.RESET + " ");
+    }
+
     @HelpCommand
     public void onHelp(CommandSender sender, CommandHelp help) {
         help.showHelp();
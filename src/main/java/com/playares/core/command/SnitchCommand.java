@@ -5,6 +5,7 @@ import co.aikar.commands.CommandHelp;
 import co.aikar.commands.annotation.*;
 import com.playares.commons.promise.SimplePromise;
 import com.playares.core.Ares;
+import com.playares.core.snitch.SnitchSearchQueue;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.bukkit.ChatColor;
@@ -119,6 +120,40 @@ public final class SnitchCommand extends BaseCommand {
         });
     }
 
+    @Subcommand("search")
+    @Description("Search the logs of every snitch in the network you provide")
+    @CommandCompletion("@networks @players")
+    @Syntax("<network name> [player|*] [type|*] [hours]")
+    public void onSearch(Player player, String networkName, @Optional String entity, @Optional String type, @Optional Integer hours) {
+        plugin.getSnitchManager().getHandler().searchLogs(player, networkName, entity, type, (hours != null ? hours : 24), new SimplePromise() {
+            @Override
+            public void success() {}
+
+            @Override
+            public void fail(String s) {
+                player.sendMessage(ChatColor.RED + s);
+            }
+        });
+    }
+
+    @Subcommand("queue")
+    @Syntax("[reset]")
+    @Description("View the snitch search queue metrics")
+    @CommandPermission("arescore.admin")
+    public void onQueue(CommandSender sender, @Optional String reset) {
+        final SnitchSearchQueue queue = plugin.getSnitchManager().getSearchQueue();
+
+        if (reset != null && reset.equalsIgnoreCase("reset")) {
+            queue.resetMetrics();
+            sender.sendMessage(ChatColor.YELLOW + "Snitch search metrics have been reset");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.AQUA + "Queue Depth" + ChatColor.YELLOW + ": " + queue.getQueueDepth().get() + " searches, " + queue.getExecutor().getQueue().size() + " jobs waiting on " + queue.getExecutor().getPoolSize() + " threads");
+        sender.sendMessage(ChatColor.AQUA + "Searches" + ChatColor.YELLOW + ": " + queue.getCompleted().get() + "/" + queue.getSubmitted().get() + " completed, " + queue.getCoalesced().get() + " coalesced");
+        sender.sendMessage(ChatColor.AQUA + "Latency" + ChatColor.YELLOW + ": " + String.format("%.2f", queue.getAverageLatency()) + "ms average, " + String.format("%.2f", queue.getMaxLatencyMillis()) + "ms max");
+    }
+
     @HelpCommand
     public void onHelp(CommandSender sender, CommandHelp help) {
         help.showHelp();
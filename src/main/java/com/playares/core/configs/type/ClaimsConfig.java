@@ -16,6 +16,20 @@ public final class ClaimsConfig implements AresConfig {
     @Getter public YamlConfiguration config;
 
     @Getter public List<Material> nonReinforceables;
+    @Getter public int chunkLoadBatchSize;
+    @Getter public int chunkLoadWorkerThreads;
+    @Getter public boolean prefetchEnabled;
+    @Getter public int prefetchRadius;
+    @Getter public int prefetchInterval;
+    @Getter public double prefetchMinSpeed;
+    @Getter public int prefetchExpireSeconds;
+    @Getter public boolean chunkCacheEnabled;
+    @Getter public int chunkCacheTtlSeconds;
+    @Getter public int chunkCacheMaxChunks;
+    @Getter public int chunkCacheMaxClaims;
+    @Getter public int writeBehindInterval;
+    @Getter public int writeBehindBatchSize;
+    @Getter public int redstoneCacheTtlSeconds;
 
     public ClaimsConfig(ConfigManager configManager) {
         this.configManager = configManager;
@@ -34,6 +48,21 @@ public final class ClaimsConfig implements AresConfig {
             } catch (IllegalArgumentException ignored) {}
         }
 
+        chunkLoadBatchSize = config.getInt("settings.chunk-loader.batch-size", 64);
+        chunkLoadWorkerThreads = config.getInt("settings.chunk-loader.worker-threads", 2);
+        prefetchEnabled = config.getBoolean("settings.prefetch.enabled", true);
+        prefetchRadius = config.getInt("settings.prefetch.radius", 2);
+        prefetchInterval = config.getInt("settings.prefetch.interval", 10);
+        prefetchMinSpeed = config.getDouble("settings.prefetch.min-speed", 0.2);
+        prefetchExpireSeconds = config.getInt("settings.prefetch.expire-seconds", 30);
+        chunkCacheEnabled = config.getBoolean("settings.chunk-cache.enabled", true);
+        chunkCacheTtlSeconds = config.getInt("settings.chunk-cache.ttl-seconds", 300);
+        chunkCacheMaxChunks = config.getInt("settings.chunk-cache.max-chunks", 4096);
+        chunkCacheMaxClaims = config.getInt("settings.chunk-cache.max-claims", 100000);
+        writeBehindInterval = config.getInt("settings.write-behind.interval", 30);
+        writeBehindBatchSize = config.getInt("settings.write-behind.batch-size", 1000);
+        redstoneCacheTtlSeconds = config.getInt("settings.redstone-cache.ttl-seconds", 10);
+
         Logger.print("Claims configuration loaded");
     }
 
@@ -20,6 +20,7 @@ public final class GeneralConfig implements AresConfig {
 
     @Getter public String databaseName;
     @Getter public String databaseUri;
+    @Getter public int databaseBatchSize;
 
     @Getter public int maxAltLifespan;
 
@@ -59,6 +60,7 @@ public final class GeneralConfig implements AresConfig {
 
         databaseName = config.getString("database.name");
         databaseUri = config.getString("database.uri");
+        databaseBatchSize = config.getInt("database.bulk-write-batch-size", 500);
 
         maxAltLifespan = config.getInt("alt-tracking.alt-entry-lifespan");
 
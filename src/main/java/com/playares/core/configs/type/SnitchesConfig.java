@@ -4,6 +4,7 @@ import com.playares.commons.logger.Logger;
 import com.playares.commons.util.general.Configs;
 import com.playares.core.configs.AresConfig;
 import com.playares.core.configs.ConfigManager;
+import com.playares.core.snitch.data.Snitch;
 import lombok.Getter;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -13,6 +14,14 @@ public final class SnitchesConfig implements AresConfig {
 
     @Getter public int searchRadius;
     @Getter public int movementCheckInterval;
+    @Getter public int detectionCellSize;
+    @Getter public int searchThreads;
+    @Getter public int searchQueueCapacity;
+    @Getter public int entryFlushInterval;
+    @Getter public int maxLogEntries;
+    @Getter public int notificationWindow;
+    @Getter public int notificationNetworkLimit;
+    @Getter public int searchMaxTime;
     @Getter public int logEntryExpireSeconds;
     @Getter public int expireTime;
 
@@ -26,6 +35,14 @@ public final class SnitchesConfig implements AresConfig {
 
         searchRadius = config.getInt("settings.cuboid_size");
         movementCheckInterval = config.getInt("settings.alert_check_interval");
+        detectionCellSize = config.getInt("settings.detection_cell_size", 4);
+        searchThreads = config.getInt("settings.search_threads", 2);
+        searchQueueCapacity = config.getInt("settings.search_queue_capacity", 1024);
+        entryFlushInterval = config.getInt("settings.entry_flush_interval", 5);
+        maxLogEntries = config.getInt("settings.max_log_entries", Snitch.DEFAULT_LOG_CAPACITY);
+        notificationWindow = config.getInt("settings.notification_window", 2);
+        notificationNetworkLimit = config.getInt("settings.notification_network_limit", 10);
+        searchMaxTime = config.getInt("settings.search_max_time_ms", 2000);
         logEntryExpireSeconds = config.getInt("settings.log_entry_expire_seconds");
         expireTime = config.getInt("settings.mature");
 
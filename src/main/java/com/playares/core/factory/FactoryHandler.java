@@ -54,14 +54,14 @@ public final class FactoryHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all factories to the database");
-            FactoryDAO.saveFactories(manager.getPlugin().getDatabaseInstance(), manager.getFactoryRepository());
-            Logger.print("Saved " + manager.getFactoryRepository().size() + " Factories");
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> FactoryDAO.saveFactories(manager.getPlugin().getDatabaseInstance(), manager.getFactoryRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            Logger.print("Saved " + saved + " Factories");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            FactoryDAO.saveFactories(manager.getPlugin().getDatabaseInstance(), manager.getFactoryRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getFactoryRepository().size() + " Factories")).run();
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> FactoryDAO.saveFactories(manager.getPlugin().getDatabaseInstance(), manager.getFactoryRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Factories")).run();
         }).run();
     }
 
@@ -2,7 +2,6 @@ package com.playares.core.factory;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Scheduler;
@@ -14,6 +13,7 @@ import com.playares.core.factory.data.FactoryRecipe;
 import com.playares.core.factory.listener.FactoryListener;
 import com.playares.core.factory.menu.FactoryMenuHandler;
 import com.playares.core.network.data.Network;
+import com.playares.core.utils.KeyedRepository;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
@@ -31,7 +31,7 @@ public final class FactoryManager {
     @Getter public final FactoryHandler handler;
     @Getter public final FactoryRecipeManager recipeManager;
     @Getter public final FactoryMenuHandler menuHandler;
-    @Getter public final Set<Factory> factoryRepository;
+    @Getter public final KeyedRepository<Factory> factoryRepository;
     @Getter public final Map<String, Double> premiumSpeedMultipliers;
     @Getter public final double expLevelBase;
     @Getter public final double expLevelMultiplier;
@@ -42,7 +42,7 @@ public final class FactoryManager {
         this.handler = new FactoryHandler(this);
         this.recipeManager = new FactoryRecipeManager(this);
         this.menuHandler = new FactoryMenuHandler(this);
-        this.factoryRepository = Sets.newConcurrentHashSet();
+        this.factoryRepository = new KeyedRepository<>(Factory::getUniqueId);
         this.premiumSpeedMultipliers = Maps.newHashMap();
 
         this.jobUpdateTask = new Scheduler(plugin).async(() -> {
@@ -98,7 +98,7 @@ public final class FactoryManager {
      * @return Factory
      */
     public Factory getFactoryByID(UUID uniqueId) {
-        return factoryRepository.stream().filter(factory -> factory.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return factoryRepository.get(uniqueId);
     }
 
     /**
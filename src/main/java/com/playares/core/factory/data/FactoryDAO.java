@@ -6,10 +6,12 @@ import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public final class FactoryDAO {
     private static final String NAME = "ares";
@@ -51,19 +53,12 @@ public final class FactoryDAO {
      * Save a collection of Factories to the provided MongoDB instance
      * @param database MongoDB Instance
      * @param factories Collection of Factories
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveFactories(MongoDB database, Collection<Factory> factories) {
+    public static int saveFactories(MongoDB database, Collection<Factory> factories, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        factories.forEach(factory -> {
-            final Document existing = collection.find(Filters.eq("id", factory.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, factory.toDocument());
-            } else {
-                collection.insertOne(factory.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, factories, batchSize);
     }
 
     /**
@@ -81,4 +76,15 @@ public final class FactoryDAO {
 
         collection.deleteOne(existing);
     }
+
+    /**
+     * Deletes every factory owned by the provided network from the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param ownerId Network UUID
+     * @return Amount of factories deleted
+     */
+    public static long deleteByOwner(MongoDB database, UUID ownerId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.eq("owner", ownerId)).getDeletedCount();
+    }
 }
\ No newline at end of file
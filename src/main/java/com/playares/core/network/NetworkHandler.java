@@ -1,5 +1,9 @@
 package com.playares.core.network;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.playares.commons.connect.mongodb.MongoDB;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.commons.util.general.Time;
@@ -16,10 +20,14 @@ import com.playares.core.network.data.NetworkDAO;
 import com.playares.core.network.handlers.*;
 import com.playares.core.snitch.data.Snitch;
 import com.playares.core.snitch.data.SnitchDAO;
+import com.playares.core.snitch.data.SnitchEntryDAO;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class NetworkHandler {
@@ -51,15 +59,28 @@ public final class NetworkHandler {
             Logger.warn("Blocking the thread while attempting to load all networks from the database");
             manager.getNetworkRepository().addAll(NetworkDAO.getNetworks(manager.getPlugin().getDatabaseInstance()));
             Logger.print("Loaded " + manager.getNetworkRepository().size() + " Networks");
+            loadOnlineRosters();
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
             manager.getNetworkRepository().addAll(NetworkDAO.getNetworks(manager.getPlugin().getDatabaseInstance()));
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Loaded " + manager.getNetworkRepository().size() + " Networks")).run();
+            new Scheduler(manager.getPlugin()).sync(() -> {
+                Logger.print("Loaded " + manager.getNetworkRepository().size() + " Networks");
+                loadOnlineRosters();
+            }).run();
         }).run();
     }
 
+    /**
+     * Adds every online player to the online roster of their networks
+     *
+     * Rosters are otherwise only updated on join and quit, this covers players who were online before networks were loaded
+     */
+    private void loadOnlineRosters() {
+        Bukkit.getOnlinePlayers().forEach(player -> manager.getNetworksByPlayer(player).forEach(network -> network.setOnline(player)));
+    }
+
     /**
      * Saves all networks in memory to the database instance
      * @param blocking Block the thread
@@ -67,14 +88,14 @@ public final class NetworkHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all networks to the database");
-            NetworkDAO.saveNetworks(manager.getPlugin().getDatabaseInstance(), manager.getNetworkRepository());
-            Logger.print("Saved " + manager.getNetworkRepository().size() + " Networks");
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> NetworkDAO.saveNetworks(manager.getPlugin().getDatabaseInstance(), manager.getNetworkRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            Logger.print("Saved " + saved + " Networks");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            NetworkDAO.saveNetworks(manager.getPlugin().getDatabaseInstance(), manager.getNetworkRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getNetworkRepository().size() + " Networks")).run();
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> NetworkDAO.saveNetworks(manager.getPlugin().getDatabaseInstance(), manager.getNetworkRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Networks")).run();
         }).run();
     }
 
@@ -82,54 +103,116 @@ public final class NetworkHandler {
      * Performs a scrub of the database to remove any network that is now considered inactive
      */
     public void performNetworkCleanup() {
-        new Scheduler(manager.getPlugin()).async(() -> {
-            final List<Network> expired = manager.getNetworkRepository().stream().filter(network -> (network.getLastSeen() - Time.now()) > (manager.getPlugin().getConfigManager().getGeneralConfig().getNetworkInactiveExpireSeconds() * 1000L)).collect(Collectors.toList());
+        final List<Network> expired = manager.getNetworkRepository().stream().filter(network -> (network.getLastSeen() - Time.now()) > (manager.getPlugin().getConfigManager().getGeneralConfig().getNetworkInactiveExpireSeconds() * 1000L)).collect(Collectors.toList());
+
+        if (expired.isEmpty()) {
+            return;
+        }
 
-            if (expired.isEmpty()) {
-                return;
+        expired.forEach(network -> Logger.warn(network.getName() + "(" + network.getUniqueId().toString() + ") has been deleted due to inactivity"));
+        deleteNetworks(expired);
+    }
+
+    /**
+     * Removes the provided networks and everything they own from memory, then deletes them from the database
+     *
+     * Database deletes are performed per collection by owner in a single background job, so documents
+     * that are not currently in memory, such as claims in unloaded chunks, are removed as well.
+     * Saves that were already running may still write the removed documents, so the owner deletes
+     * are repeated once those saves have finished.
+     *
+     * @param networks Networks
+     */
+    public void deleteNetworks(Collection<Network> networks) {
+        final List<Network> deleted = ImmutableList.copyOf(networks);
+        final Set<UUID> snitchIds = Sets.newHashSet();
+
+        if (deleted.isEmpty()) {
+            return;
+        }
+
+        deleted.forEach(network -> {
+            final List<Snitch> snitches = manager.getPlugin().getSnitchManager().getSnitchByOwner(network);
+            final List<Claim> claims = manager.getPlugin().getClaimManager().getClaimByOwner(network);
+            final Set<Factory> factories = manager.getPlugin().getFactoryManager().getFactoryByOwner(network);
+            final Set<Bastion> bastions = manager.getPlugin().getBastionManager().getBastionByOwner(network);
+            final Set<AcidBlock> acids = manager.getPlugin().getAcidManager().getAcidBlockByOwner(network);
+
+            snitches.forEach(snitch -> snitchIds.add(snitch.getUniqueId()));
+
+            manager.getPlugin().getSnitchManager().getSnitchRepository().removeAll(snitches);
+            manager.getPlugin().getClaimManager().removeClaims(claims);
+            manager.getPlugin().getFactoryManager().getFactoryRepository().removeAll(factories);
+            manager.getPlugin().getBastionManager().getBastionRepository().removeAll(bastions);
+            manager.getPlugin().getAcidManager().getAcidRepository().removeAll(acids);
+
+            network.getMembers().clear();
+            network.getPendingMembers().clear();
+            manager.getNetworkRepository().remove(network);
+        });
+
+        // Entries queued for the removed snitches would otherwise be written back after the purge
+        manager.getPlugin().getSnitchManager().getHandler().getPendingEntries().removeIf(entry -> snitchIds.contains(entry.getSnitchId()));
+
+        new Scheduler(manager.getPlugin()).async(() -> {
+            final MongoDB database = manager.getPlugin().getDatabaseInstance();
+            final long start = Time.now();
+            int processed = 0;
+
+            for (Network network : deleted) {
+                final UUID ownerId = network.getUniqueId();
+                final long snitches = SnitchDAO.deleteByOwner(database, ownerId);
+                final long claims = ClaimDAO.deleteByOwner(database, ownerId);
+                final long factories = FactoryDAO.deleteByOwner(database, ownerId);
+                final long bastions = BastionDAO.deleteByOwner(database, ownerId);
+                final long acids = AcidDAO.deleteByOwner(database, ownerId);
+
+                NetworkDAO.deleteNetwork(database, network);
+                processed++;
+
+                Logger.print("Purged network " + network.getName() + "(" + ownerId.toString() + ") [" + processed + "/" + deleted.size() + "]: " +
+                        snitches + " snitches, " + claims + " claims, " + factories + " factories, " + bastions + " bastions, " + acids + " acid blocks");
             }
 
-            expired.forEach(network -> {
-                final List<Snitch> snitches = manager.getPlugin().getSnitchManager().getSnitchByOwner(network);
-                final List<Claim> claims = manager.getPlugin().getClaimManager().getClaimByOwner(network);
-                final Set<Factory> factories = manager.getPlugin().getFactoryManager().getFactoryByOwner(network);
-                final Set<Bastion> bastions = manager.getPlugin().getBastionManager().getBastionByOwner(network);
-                final Set<AcidBlock> acids = manager.getPlugin().getAcidManager().getAcidBlockByOwner(network);
+            // Saves that captured the removed documents before they left memory are finished after this
+            manager.getPlugin().getWriteBarrier().await();
 
-                manager.getPlugin().getSnitchManager().getSnitchRepository().removeAll(snitches);
-                manager.getPlugin().getClaimManager().getClaimRepository().removeAll(claims);
-                manager.getPlugin().getFactoryManager().getFactoryRepository().removeAll(factories);
-                manager.getPlugin().getBastionManager().getBastionRepository().removeAll(bastions);
-                manager.getPlugin().getAcidManager().getAcidRepository().removeAll(acids);
+            long lateWrites = 0L;
 
-                network.getMembers().clear();
-                network.getPendingMembers().clear();
-                manager.getNetworkRepository().remove(network);
+            for (Network network : deleted) {
+                final UUID ownerId = network.getUniqueId();
 
-                NetworkDAO.deleteNetwork(manager.getPlugin().getDatabaseInstance(), network);
+                lateWrites += SnitchDAO.deleteByOwner(database, ownerId);
+                lateWrites += ClaimDAO.deleteByOwner(database, ownerId);
+                lateWrites += FactoryDAO.deleteByOwner(database, ownerId);
+                lateWrites += BastionDAO.deleteByOwner(database, ownerId);
+                lateWrites += AcidDAO.deleteByOwner(database, ownerId);
+                NetworkDAO.deleteNetwork(database, network);
+            }
 
-                for (Snitch snitch : snitches) {
-                    SnitchDAO.deleteSnitch(manager.getPlugin().getDatabaseInstance(), snitch);
-                }
+            // Entries flushed late belong to snitch documents that are already gone, so they are matched by id
+            if (!snitchIds.isEmpty()) {
+                lateWrites += SnitchEntryDAO.deleteEntries(database, snitchIds);
+            }
 
-                for (Claim claim : claims) {
-                    ClaimDAO.deleteClaim(manager.getPlugin().getDatabaseInstance(), claim);
-                }
+            if (lateWrites > 0) {
+                Logger.warn("Removed " + lateWrites + " documents written back during the network purge");
+            }
 
-                for (Factory factory : factories) {
-                    FactoryDAO.deleteFactory(manager.getPlugin().getDatabaseInstance(), factory);
-                }
+            final long elapsed = Time.now() - start;
 
-                for (Bastion bastion : bastions) {
-                    BastionDAO.deleteBastion(manager.getPlugin().getDatabaseInstance(), bastion);
-                }
+            new Scheduler(manager.getPlugin()).sync(() -> {
+                // Claims loaded from the database while the purge was running are dropped here
+                final List<Claim> remaining = Lists.newArrayList();
+                deleted.forEach(network -> remaining.addAll(manager.getPlugin().getClaimManager().getClaimByOwner(network)));
 
-                for (AcidBlock acid : acids) {
-                    AcidDAO.deleteAcidBlock(manager.getPlugin().getDatabaseInstance(), acid);
+                if (!remaining.isEmpty()) {
+                    manager.getPlugin().getClaimManager().removeClaims(remaining);
+                    new Scheduler(manager.getPlugin()).async(() -> deleted.forEach(network -> ClaimDAO.deleteByOwner(database, network.getUniqueId()))).run();
                 }
 
-                Logger.warn(network.getName() + "(" + network.getUniqueId().toString() + ") has been deleted due to inactivity");
-            });
+                Logger.print("Finished purging " + deleted.size() + " networks in " + elapsed + "ms");
+            }).run();
         }).run();
     }
-}
\ No newline at end of file
+}
@@ -2,27 +2,26 @@ package com.playares.core.network;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Sets;
 import com.playares.core.Ares;
 import com.playares.core.network.data.Network;
+import com.playares.core.network.data.NetworkRepository;
 import com.playares.core.network.listener.NetworkListener;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class NetworkManager {
     @Getter public final Ares plugin;
     @Getter public final NetworkHandler handler;
-    @Getter public final Set<Network> networkRepository;
+    @Getter public final NetworkRepository networkRepository;
 
     public NetworkManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new NetworkHandler(this);
-        this.networkRepository = Sets.newConcurrentHashSet();
+        this.networkRepository = new NetworkRepository();
 
         Bukkit.getPluginManager().registerEvents(new NetworkListener(this), plugin);
     }
@@ -33,7 +32,7 @@ public final class NetworkManager {
      * @return Network
      */
     public Network getNetworkByID(UUID uniqueId) {
-        return networkRepository.stream().filter(network -> network.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return networkRepository.get(uniqueId);
     }
 
     /**
@@ -42,7 +41,7 @@ public final class NetworkManager {
      * @return Network
      */
     public Network getNetworkByName(String name) {
-        return networkRepository.stream().filter(network -> network.getName().equalsIgnoreCase(name)).findFirst().orElse(null);
+        return networkRepository.getByName(name);
     }
 
     /**
@@ -51,7 +50,7 @@ public final class NetworkManager {
      * @return Immutable Collection of Networks
      */
     public ImmutableCollection<Network> getNetworksByPlayer(Player player) {
-        return ImmutableList.copyOf(networkRepository.stream().filter(network -> network.isMember(player)).collect(Collectors.toList()));
+        return networkRepository.getNetworksByMember(player.getUniqueId());
     }
 
     /**
@@ -60,7 +59,7 @@ public final class NetworkManager {
      * @return Immutable Collection of Networks
      */
     public ImmutableCollection<Network> getNetworksByPlayer(UUID uniqueId) {
-        return ImmutableList.copyOf(networkRepository.stream().filter(network -> network.isMember(uniqueId)).collect(Collectors.toList()));
+        return networkRepository.getNetworksByMember(uniqueId);
     }
 
     /**
@@ -69,7 +68,7 @@ public final class NetworkManager {
      * @return Immutable Collection of Networks
      */
     public ImmutableCollection<Network> getNetworksByPlayer(String username) {
-        return ImmutableList.copyOf(networkRepository.stream().filter(network -> network.isMember(username)).collect(Collectors.toList()));
+        return networkRepository.getNetworksByUsername(username);
     }
 
     /**
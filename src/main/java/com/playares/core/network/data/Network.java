@@ -2,31 +2,38 @@ package com.playares.core.network.data;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.common.collect.Maps;
 import com.playares.commons.connect.mongodb.MongoDocument;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.general.Time;
 import lombok.Getter;
 import lombok.Setter;
 import org.bson.Document;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class Network implements MongoDocument<Network> {
+    private static final Player[] NO_PLAYERS = new Player[0];
+
     @Getter public UUID uniqueId;
-    @Getter @Setter public String name;
+    @Getter public String name;
     @Getter public UUID creatorId;
     @Getter public long createDate;
     @Getter @Setter public long lastSeen;
-    @Getter public Set<NetworkMember> members;
+    private Map<UUID, NetworkMember> members;
     @Getter public List<UUID> pendingMembers;
     @Getter public NetworkConfig configuration;
+    NetworkRepository repository;
+    private volatile Player[] onlinePlayers;
 
     public Network() {
         this.uniqueId = UUID.randomUUID();
@@ -34,9 +41,10 @@ public final class Network implements MongoDocument<Network> {
         this.creatorId = null;
         this.createDate = Time.now();
         this.lastSeen = Time.now();
-        this.members = Sets.newConcurrentHashSet();
+        this.members = Maps.newConcurrentMap();
         this.pendingMembers = Collections.synchronizedList(Lists.newArrayList());
         this.configuration = new NetworkConfig();
+        this.onlinePlayers = NO_PLAYERS;
     }
 
     /**
@@ -50,14 +58,27 @@ public final class Network implements MongoDocument<Network> {
         this.creatorId = creator.getUniqueId();
         this.createDate = Time.now();
         this.lastSeen = Time.now();
-        this.members = Sets.newConcurrentHashSet();
+        this.members = Maps.newConcurrentMap();
         this.pendingMembers = Collections.synchronizedList(Lists.newArrayList());
         this.configuration = new NetworkConfig();
+        this.onlinePlayers = NO_PLAYERS;
 
         final NetworkMember owner = new NetworkMember(creator);
-        owner.getGrantedPermissions().add(NetworkPermission.ADMIN);
+        owner.grantPermission(NetworkPermission.ADMIN);
+
+        members.put(owner.getUniqueId(), owner);
+
+        if (creator.isOnline()) {
+            setOnline(creator);
+        }
+    }
 
-        members.add(owner);
+    /**
+     * Returns a live view of all members of this Network
+     * @return Collection of Members
+     */
+    public Collection<NetworkMember> getMembers() {
+        return members.values();
     }
 
     /**
@@ -75,7 +96,7 @@ public final class Network implements MongoDocument<Network> {
      * @return True if member
      */
     public boolean isMember(UUID uniqueId) {
-        return members.stream().anyMatch(member -> member.getUniqueId().equals(uniqueId));
+        return members.containsKey(uniqueId);
     }
 
     /**
@@ -87,7 +108,7 @@ public final class Network implements MongoDocument<Network> {
      * @return True if member
      */
     public boolean isMember(String username) {
-        return members.stream().anyMatch(member -> member.getUsername().equals(username));
+        return members.values().stream().anyMatch(member -> member.getUsername().equals(username));
     }
 
     /**
@@ -105,7 +126,7 @@ public final class Network implements MongoDocument<Network> {
      * @return NetworkMember
      */
     public NetworkMember getMember(UUID uniqueId) {
-        return members.stream().filter(member -> member.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return members.get(uniqueId);
     }
 
     /**
@@ -114,7 +135,7 @@ public final class Network implements MongoDocument<Network> {
      * @return NetworkMember
      */
     public NetworkMember getMember(String username) {
-        return members.stream().filter(member -> member.getUsername().equals(username)).findFirst().orElse(null);
+        return members.values().stream().filter(member -> member.getUsername().equals(username)).findFirst().orElse(null);
     }
 
     /**
@@ -122,7 +143,78 @@ public final class Network implements MongoDocument<Network> {
      * @return Immutable Collection of Members
      */
     public ImmutableList<NetworkMember> getOnlineMembers() {
-        return ImmutableList.copyOf(members.stream().filter(member -> member.getBukkitPlayer() != null).collect(Collectors.toList()));
+        final ImmutableList.Builder<NetworkMember> result = ImmutableList.builder();
+
+        for (Player player : onlinePlayers) {
+            final NetworkMember member = members.get(player.getUniqueId());
+
+            if (member != null) {
+                result.add(member);
+            }
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Returns the online roster of this Network
+     *
+     * The roster is replaced rather than modified when a member joins or quits, the returned array must not be modified
+     *
+     * @return Array of Bukkit Players
+     */
+    public Player[] getOnlinePlayers() {
+        return onlinePlayers;
+    }
+
+    /**
+     * @return Amount of members currently online
+     */
+    public int getOnlineCount() {
+        return onlinePlayers.length;
+    }
+
+    /**
+     * Adds the provided Bukkit Player to the online roster of this Network if they are a member
+     * @param player Bukkit Player
+     */
+    public synchronized void setOnline(Player player) {
+        if (!members.containsKey(player.getUniqueId())) {
+            return;
+        }
+
+        final Player[] current = onlinePlayers;
+
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].getUniqueId().equals(player.getUniqueId())) {
+                final Player[] updated = current.clone();
+                updated[i] = player;
+                onlinePlayers = updated;
+                return;
+            }
+        }
+
+        final Player[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = player;
+        onlinePlayers = updated;
+    }
+
+    /**
+     * Removes the provided Bukkit UUID from the online roster of this Network
+     * @param uniqueId Bukkit UUID
+     */
+    public synchronized void setOffline(UUID uniqueId) {
+        final Player[] current = onlinePlayers;
+
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].getUniqueId().equals(uniqueId)) {
+                final Player[] updated = new Player[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                onlinePlayers = updated;
+                return;
+            }
+        }
     }
 
     /**
@@ -131,7 +223,7 @@ public final class Network implements MongoDocument<Network> {
      * @return Immutable Collection of Members
      */
     public ImmutableList<NetworkMember> getMembersWithPermission(NetworkPermission permission) {
-        return ImmutableList.copyOf(members.stream().filter(member -> member.hasPermission(permission)).collect(Collectors.toList()));
+        return ImmutableList.copyOf(members.values().stream().filter(member -> member.hasPermission(permission)).collect(Collectors.toList()));
     }
 
     /**
@@ -139,13 +231,11 @@ public final class Network implements MongoDocument<Network> {
      * @param message Message
      */
     public void sendMessage(String message) {
-        getOnlineMembers().forEach(online -> {
-            final Player player = online.getBukkitPlayer();
+        final String formatted = ChatColor.GOLD + "[" + ChatColor.YELLOW + name + ChatColor.GOLD + "] " + message;
 
-            if (player != null) {
-                player.sendMessage(ChatColor.GOLD + "[" + ChatColor.YELLOW + name + ChatColor.GOLD + "] " + message);
-            }
-        });
+        for (Player player : onlinePlayers) {
+            player.sendMessage(formatted);
+        }
     }
 
     /**
@@ -153,13 +243,9 @@ public final class Network implements MongoDocument<Network> {
      * @param message Message
      */
     public void sendRawMessage(String message) {
-        getOnlineMembers().forEach(online -> {
-            final Player player = online.getBukkitPlayer();
-
-            if (player != null) {
-                player.sendMessage(message);
-            }
-        });
+        for (Player player : onlinePlayers) {
+            player.sendMessage(message);
+        }
     }
 
     /**
@@ -169,9 +255,17 @@ public final class Network implements MongoDocument<Network> {
     public void addMember(Player player) {
         final NetworkMember member = new NetworkMember(player);
 
-        members.add(member);
+        members.put(member.getUniqueId(), member);
         pendingMembers.remove(player.getUniqueId());
 
+        if (player.isOnline()) {
+            setOnline(player);
+        }
+
+        if (repository != null) {
+            repository.indexMember(this, member);
+        }
+
         Logger.print(player.getName() + " joined network " + name + "(" + uniqueId.toString() + ")");
     }
 
@@ -183,9 +277,19 @@ public final class Network implements MongoDocument<Network> {
     public void addMember(UUID uniqueId, String username) {
         final NetworkMember member = new NetworkMember(uniqueId, username);
 
-        members.add(member);
+        members.put(member.getUniqueId(), member);
         pendingMembers.remove(uniqueId);
 
+        final Player player = Bukkit.getPlayer(uniqueId);
+
+        if (player != null && player.isOnline()) {
+            setOnline(player);
+        }
+
+        if (repository != null) {
+            repository.indexMember(this, member);
+        }
+
         Logger.print(username + " joined network " + name + "(" + uniqueId.toString() + ")");
     }
 
@@ -194,13 +298,18 @@ public final class Network implements MongoDocument<Network> {
      * @param uniqueId Bukkit UUID
      */
     public void removeMember(UUID uniqueId) {
-        final NetworkMember member = getMembers().stream().filter(members -> members.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        final NetworkMember member = members.remove(uniqueId);
 
         if (member == null) {
             return;
         }
 
-        members.remove(member);
+        setOffline(uniqueId);
+
+        if (repository != null) {
+            repository.unindexMember(this, uniqueId);
+        }
+
         Logger.print(member.getUsername() + "(" + member.getUniqueId().toString() + ") was removed from network " + name + "(" + uniqueId.toString() + ")");
     }
 
@@ -211,12 +320,15 @@ public final class Network implements MongoDocument<Network> {
         this.creatorId = (UUID)document.get("creator_id");
         this.createDate = document.getLong("create_date");
         this.lastSeen = document.getLong("last_seen");
-        this.members = Sets.newConcurrentHashSet();
+        this.members = Maps.newConcurrentMap();
         this.pendingMembers = Collections.synchronizedList((List<UUID>)document.get("pending_members"));
         this.configuration = new NetworkConfig().fromDocument(document.get("config", Document.class));
 
         final List<Document> memberDocuments = document.get("members", List.class);
-        memberDocuments.forEach(memberDocument -> members.add(new NetworkMember().fromDocument(memberDocument)));
+        memberDocuments.forEach(memberDocument -> {
+            final NetworkMember member = new NetworkMember().fromDocument(memberDocument);
+            members.put(member.getUniqueId(), member);
+        });
 
         return this;
     }
@@ -224,7 +336,7 @@ public final class Network implements MongoDocument<Network> {
     @Override
     public Document toDocument() {
         final List<Document> membersDocuments = Lists.newArrayList();
-        members.forEach(member -> membersDocuments.add(member.toDocument()));
+        members.values().forEach(member -> membersDocuments.add(member.toDocument()));
 
         return new Document()
                 .append("id", uniqueId)
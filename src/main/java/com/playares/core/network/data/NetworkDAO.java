@@ -6,6 +6,7 @@ import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
@@ -51,19 +52,12 @@ public final class NetworkDAO {
      * Saves a collection of networks to the provided MongoDB instance
      * @param database MongoDB Database
      * @param networks Networks Collection
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveNetworks(MongoDB database, Collection<Network> networks) {
+    public static int saveNetworks(MongoDB database, Collection<Network> networks, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        networks.forEach(network -> {
-            final Document existing = collection.find(Filters.eq("id", network.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, network.toDocument());
-            } else {
-                collection.insertOne(network.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, networks, batchSize);
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.playares.core.network.data;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.playares.commons.connect.mongodb.MongoDocument;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,69 +10,60 @@ import org.bson.Document;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
 public final class NetworkMember implements MongoDocument<NetworkMember> {
     @Getter UUID uniqueId;
     @Getter @Setter public String username;
-    @Getter public List<NetworkPermission> grantedPermissions;
+    @Getter public volatile ImmutableSet<NetworkPermission> grantedPermissions;
 
     NetworkMember() {
         this.uniqueId = null;
         this.username = null;
-        this.grantedPermissions = Collections.synchronizedList(Lists.newArrayList());
-
-        for (NetworkPermission permission : NetworkPermission.values()) {
-            if (permission.isDefaultValue()) {
-                grantedPermissions.add(permission);
-            }
-        }
+        this.grantedPermissions = getDefaultPermissions();
     }
 
     NetworkMember(Player player) {
         this.uniqueId = player.getUniqueId();
         this.username = player.getName();
-        this.grantedPermissions = Collections.synchronizedList(Lists.newArrayList());
-
-        for (NetworkPermission permission : NetworkPermission.values()) {
-            if (permission.isDefaultValue()) {
-                grantedPermissions.add(permission);
-            }
-        }
+        this.grantedPermissions = getDefaultPermissions();
     }
 
     NetworkMember(UUID uniqueId, String username) {
         this.uniqueId = uniqueId;
         this.username = username;
-        this.grantedPermissions = Collections.synchronizedList(Lists.newArrayList());
-
-        for (NetworkPermission permission : NetworkPermission.values()) {
-            if (permission.isDefaultValue()) {
-                grantedPermissions.add(permission);
-            }
-        }
+        this.grantedPermissions = getDefaultPermissions();
     }
 
     /**
      * Adds the provided Network Permission to this players granted permissions
      * @param permission Network Permission
      */
-    public void grantPermission(NetworkPermission permission) {
-        if (!grantedPermissions.contains(permission)) {
-            grantedPermissions.add(permission);
+    public synchronized void grantPermission(NetworkPermission permission) {
+        if (grantedPermissions.contains(permission)) {
+            return;
         }
+
+        final EnumSet<NetworkPermission> updated = EnumSet.of(permission);
+        updated.addAll(grantedPermissions);
+        grantedPermissions = Sets.immutableEnumSet(updated);
     }
 
     /**
      * Removes the provided Network Permission from this players granted permissions
      * @param permission Network Permission
      */
-    public void revokePermission(NetworkPermission permission) {
-        if (grantedPermissions.contains(permission)) {
-            grantedPermissions.remove(permission);
+    public synchronized void revokePermission(NetworkPermission permission) {
+        if (!grantedPermissions.contains(permission)) {
+            return;
         }
+
+        final EnumSet<NetworkPermission> updated = EnumSet.noneOf(NetworkPermission.class);
+        updated.addAll(grantedPermissions);
+        updated.remove(permission);
+        grantedPermissions = Sets.immutableEnumSet(updated);
     }
 
     /**
@@ -94,23 +87,35 @@ public final class NetworkMember implements MongoDocument<NetworkMember> {
         return null;
     }
 
+    private static ImmutableSet<NetworkPermission> getDefaultPermissions() {
+        final EnumSet<NetworkPermission> permissions = EnumSet.noneOf(NetworkPermission.class);
+
+        for (NetworkPermission permission : NetworkPermission.values()) {
+            if (permission.isDefaultValue()) {
+                permissions.add(permission);
+            }
+        }
+
+        return Sets.immutableEnumSet(permissions);
+    }
+
     @SuppressWarnings("unchecked") @Override
     public NetworkMember fromDocument(Document document) {
         this.uniqueId = (UUID)document.get("id");
         this.username = document.getString("username");
 
         final List<String> grantedPermissionNames = (List<String>)document.get("permissions");
+        final EnumSet<NetworkPermission> permissions = EnumSet.noneOf(NetworkPermission.class);
+        permissions.addAll(grantedPermissions);
 
         for (String permissionName : grantedPermissionNames) {
             try {
-                final NetworkPermission permission = NetworkPermission.valueOf(permissionName);
-
-                if (!hasPermission(permission)) {
-                    grantedPermissions.add(permission);
-                }
+                permissions.add(NetworkPermission.valueOf(permissionName));
             } catch (IllegalArgumentException ignored) {}
         }
 
+        this.grantedPermissions = Sets.immutableEnumSet(permissions);
+
         return this;
     }
 
@@ -0,0 +1,314 @@
+package com.playares.core.network.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.playares.commons.logger.Logger;
+import com.playares.core.utils.KeyedRepository;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Network storage indexed by UUID and by member
+ *
+ * Networks are indexed by the UUID and lowercase username of every member, so finding
+ * the networks a player belongs to does not scan every network. Networks in this
+ * repository report member changes back to it from addMember and removeMember.
+ *
+ * Networks are also indexed by lowercase name in a sorted map. A name is claimed with
+ * an atomic putIfAbsent, so two creates or renames racing for the same name can not
+ * both succeed, and the sorted keys allow prefix searches for tab completion.
+ *
+ * This class is a Set view over every loaded network so existing iteration, size and
+ * stream calls keep working.
+ */
+public final class NetworkRepository extends AbstractSet<Network> {
+    private final KeyedRepository<Network> networks;
+    private final Map<UUID, Set<Network>> byMember;
+    private final Map<String, Set<Network>> byUsername;
+    private final Map<UUID, Map<UUID, String>> indexedMembers;
+    private final ConcurrentSkipListMap<String, Network> byName;
+
+    public NetworkRepository() {
+        this.networks = new KeyedRepository<>(Network::getUniqueId);
+        this.byMember = Maps.newConcurrentMap();
+        this.byUsername = Maps.newConcurrentMap();
+        this.indexedMembers = Maps.newConcurrentMap();
+        this.byName = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Returns a Network matching the provided UUID
+     * @param uniqueId Network UUID
+     * @return Network
+     */
+    public Network get(UUID uniqueId) {
+        return networks.get(uniqueId);
+    }
+
+    /**
+     * Returns a Network matching the provided name, ignoring case
+     * @param name Network Name
+     * @return Network
+     */
+    public Network getByName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        return byName.get(name.toLowerCase());
+    }
+
+    /**
+     * Returns an Immutable List of network names starting with the provided prefix, ignoring case
+     * @param prefix Name prefix
+     * @param limit Maximum amount of names
+     * @return Immutable List of Network Names
+     */
+    public ImmutableList<String> getNamesByPrefix(String prefix, int limit) {
+        final String key = (prefix != null) ? prefix.toLowerCase() : "";
+        final ImmutableList.Builder<String> result = ImmutableList.builder();
+        int found = 0;
+
+        for (Network network : byName.subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+            if (found >= limit) {
+                break;
+            }
+
+            result.add(network.getName());
+            found++;
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Reserves the provided name for the provided network
+     *
+     * Reserving a name for a network that is never added must be undone with releaseName
+     *
+     * @param name Network Name
+     * @param network Network
+     * @return True if the name is now held by the provided network
+     */
+    public boolean reserveName(String name, Network network) {
+        final Network existing = byName.putIfAbsent(name.toLowerCase(), network);
+        return existing == null || existing == network;
+    }
+
+    /**
+     * Releases the provided name if it is held by the provided network
+     * @param name Network Name
+     * @param network Network
+     */
+    public void releaseName(String name, Network network) {
+        byName.remove(name.toLowerCase(), network);
+    }
+
+    /**
+     * Renames the provided network if the new name is not held by another network
+     * @param network Network
+     * @param newName New Network Name
+     * @return True if renamed
+     */
+    public boolean rename(Network network, String newName) {
+        final String previousName = network.getName();
+
+        if (!reserveName(newName, network)) {
+            return false;
+        }
+
+        network.name = newName;
+
+        if (previousName != null && !previousName.equalsIgnoreCase(newName)) {
+            releaseName(previousName, network);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns an Immutable Set of all networks the provided Bukkit UUID is a member of
+     * @param uniqueId Bukkit UUID
+     * @return Immutable Set of Networks
+     */
+    public ImmutableSet<Network> getNetworksByMember(UUID uniqueId) {
+        final Set<Network> result = byMember.get(uniqueId);
+        return (result == null) ? ImmutableSet.of() : ImmutableSet.copyOf(result);
+    }
+
+    /**
+     * Returns an Immutable Set of all networks with a member using the provided username, ignoring case
+     * @param username Bukkit Username
+     * @return Immutable Set of Networks
+     */
+    public ImmutableSet<Network> getNetworksByUsername(String username) {
+        if (username == null) {
+            return ImmutableSet.of();
+        }
+
+        final Set<Network> result = byUsername.get(username.toLowerCase());
+        return (result == null) ? ImmutableSet.of() : ImmutableSet.copyOf(result);
+    }
+
+    /**
+     * Indexes a member of the provided network, replacing any previous index of that member
+     *
+     * Call this after changing the username of a member
+     *
+     * @param network Network
+     * @param member Network Member
+     */
+    public synchronized void indexMember(Network network, NetworkMember member) {
+        if (!networks.contains(network)) {
+            return;
+        }
+
+        final Map<UUID, String> indexed = indexedMembers.computeIfAbsent(network.getUniqueId(), id -> Maps.newConcurrentMap());
+        final String previousUsername = indexed.get(member.getUniqueId());
+        final String username = (member.getUsername() != null) ? member.getUsername().toLowerCase() : "";
+
+        if (previousUsername != null && !previousUsername.equals(username)) {
+            unindex(byUsername, previousUsername, network);
+        }
+
+        indexed.put(member.getUniqueId(), username);
+        byMember.computeIfAbsent(member.getUniqueId(), id -> Sets.newConcurrentHashSet()).add(network);
+
+        if (!username.isEmpty()) {
+            byUsername.computeIfAbsent(username, name -> Sets.newConcurrentHashSet()).add(network);
+        }
+    }
+
+    /**
+     * Removes a member of the provided network from the index
+     * @param network Network
+     * @param memberId Member Bukkit UUID
+     */
+    public synchronized void unindexMember(Network network, UUID memberId) {
+        final Map<UUID, String> indexed = indexedMembers.get(network.getUniqueId());
+
+        if (indexed == null) {
+            return;
+        }
+
+        final String username = indexed.remove(memberId);
+
+        if (username == null) {
+            return;
+        }
+
+        unindex(byMember, memberId, network);
+
+        if (!username.isEmpty()) {
+            unindex(byUsername, username, network);
+        }
+    }
+
+    @Override
+    public synchronized boolean add(Network network) {
+        if (!networks.add(network)) {
+            return false;
+        }
+
+        network.repository = this;
+        network.getMembers().forEach(member -> indexMember(network, member));
+
+        if (network.getName() != null && !reserveName(network.getName(), network)) {
+            Logger.warn("Network " + network.getName() + "(" + network.getUniqueId().toString() + ") shares a name with another network and can not be found by name");
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object object) {
+        if (!(object instanceof Network) || !networks.remove(object)) {
+            return false;
+        }
+
+        final Network network = (Network)object;
+        final Map<UUID, String> indexed = indexedMembers.remove(network.getUniqueId());
+
+        // Members may have already been cleared, the index keeps its own record of them
+        if (indexed != null) {
+            indexed.forEach((memberId, username) -> {
+                unindex(byMember, memberId, network);
+
+                if (!username.isEmpty()) {
+                    unindex(byUsername, username, network);
+                }
+            });
+        }
+
+        if (network.getName() != null) {
+            releaseName(network.getName(), network);
+        }
+
+        network.repository = null;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return networks.contains(object);
+    }
+
+    @Override
+    public Iterator<Network> iterator() {
+        final Iterator<Network> iterator = networks.iterator();
+
+        return new Iterator<Network>() {
+            private Network current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Network next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+
+                NetworkRepository.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return networks.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        networks.forEach(network -> network.repository = null);
+        networks.clear();
+        byMember.clear();
+        byUsername.clear();
+        indexedMembers.clear();
+        byName.clear();
+    }
+
+    private static <K> void unindex(Map<K, Set<Network>> index, K key, Network network) {
+        index.computeIfPresent(key, (k, values) -> {
+            values.remove(network);
+            return values.isEmpty() ? null : values;
+        });
+    }
+}
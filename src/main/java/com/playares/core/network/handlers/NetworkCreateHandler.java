@@ -59,13 +59,13 @@ public final class NetworkCreateHandler {
             return;
         }
 
-        if (handler.getManager().getNetworkByName(name) != null) {
+        final Network network = new Network(name, player);
+
+        if (!handler.getManager().getNetworkRepository().reserveName(name, network)) {
             promise.fail("Network name is already in use");
             return;
         }
 
-        final Network network = new Network(name, player);
-
         handler.getManager().getNetworkRepository().add(network);
         new Scheduler(handler.getManager().getPlugin()).async(() -> NetworkDAO.saveNetwork(handler.getManager().getPlugin().getDatabaseInstance(), network)).run();
 
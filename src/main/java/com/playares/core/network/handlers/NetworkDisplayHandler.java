@@ -41,7 +41,7 @@ public final class NetworkDisplayHandler {
         final UUID foundID = network.getCreatorId();
         final String foundedDate = Time.convertToDate(new Date(network.getCreateDate()));
         final int totalMembers = network.getMembers().size();
-        final int onlineMembers = network.getOnlineMembers().size();
+        final int onlineMembers = network.getOnlineCount();
         final boolean passwordEnabled = network.getConfiguration().isPasswordEnabled();
 
         service.getAccountByBukkitID(foundID, aresAccount -> {
@@ -82,7 +82,7 @@ public final class NetworkDisplayHandler {
             player.sendMessage(ChatColor.GOLD + "Your Networks");
         }
 
-        networks.forEach(network -> player.sendMessage(ChatColor.GRAY + " - " + ChatColor.GOLD + network.getName() + ChatColor.DARK_AQUA + " (" + ChatColor.AQUA + network.getOnlineMembers().size() + "/" + network.getMembers().size() + " online" + ChatColor.DARK_AQUA + ")"));
+        networks.forEach(network -> player.sendMessage(ChatColor.GRAY + " - " + ChatColor.GOLD + network.getName() + ChatColor.DARK_AQUA + " (" + ChatColor.AQUA + network.getOnlineCount() + "/" + network.getMembers().size() + " online" + ChatColor.DARK_AQUA + ")"));
         promise.success();
     }
 }
\ No newline at end of file
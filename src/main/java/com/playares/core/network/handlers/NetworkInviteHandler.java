@@ -184,7 +184,7 @@ public final class NetworkInviteHandler {
             return;
         }
 
-        final NetworkMember networkMember = network.getMembers().stream().filter(member -> member.getUniqueId().equals(player.getUniqueId())).findFirst().orElse(null);
+        final NetworkMember networkMember = network.getMember(player.getUniqueId());
 
         if (networkMember == null || !network.isMember(player) && !admin) {
             promise.fail("You are not a member of this network");
@@ -239,7 +239,7 @@ public final class NetworkInviteHandler {
             return;
         }
 
-        if (network.getMembers().stream().anyMatch(member -> member.getUniqueId().equals(player.getUniqueId())) && !admin) {
+        if (network.isMember(player.getUniqueId()) && !admin) {
             promise.fail("You are already a member of this network");
             return;
         }
@@ -277,7 +277,7 @@ public final class NetworkInviteHandler {
             return;
         }
 
-        if (network.getMembers().stream().anyMatch(member -> member.getUniqueId().equals(player.getUniqueId()))) {
+        if (network.isMember(player.getUniqueId())) {
             promise.fail("You are already a member of this network");
             return;
         }
@@ -5,26 +5,16 @@ import com.playares.commons.logger.Logger;
 import com.playares.commons.promise.SimplePromise;
 import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.commons.util.general.Time;
-import com.playares.core.bastion.data.Bastion;
-import com.playares.core.bastion.data.BastionDAO;
-import com.playares.core.claim.data.Claim;
-import com.playares.core.claim.data.ClaimDAO;
-import com.playares.core.factory.data.Factory;
-import com.playares.core.factory.data.FactoryDAO;
 import com.playares.core.network.NetworkHandler;
 import com.playares.core.network.data.Network;
-import com.playares.core.network.data.NetworkDAO;
 import com.playares.core.network.data.NetworkMember;
 import com.playares.core.network.data.NetworkPermission;
-import com.playares.core.snitch.data.Snitch;
-import com.playares.core.snitch.data.SnitchDAO;
 import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 public final class NetworkManageHandler {
@@ -63,40 +53,8 @@ public final class NetworkManageHandler {
             return;
         }
 
-        final List<Snitch> snitches = handler.getManager().getPlugin().getSnitchManager().getSnitchByOwner(network);
-        final List<Claim> claims = handler.getManager().getPlugin().getClaimManager().getClaimByOwner(network);
-        final Set<Factory> factories = handler.getManager().getPlugin().getFactoryManager().getFactoryByOwner(network);
-        final Set<Bastion> bastions = handler.getManager().getPlugin().getBastionManager().getBastionByOwner(network);
-
-        handler.getManager().getPlugin().getSnitchManager().getSnitchRepository().removeAll(snitches);
-        handler.getManager().getPlugin().getClaimManager().getClaimRepository().removeAll(claims);
-        handler.getManager().getPlugin().getFactoryManager().getFactoryRepository().removeAll(factories);
-        handler.getManager().getPlugin().getBastionManager().getBastionRepository().removeAll(bastions);
-
         network.sendMessage(ChatColor.RED + "Network has been disbanded by " + ChatColor.BLUE + player.getName());
-        network.getMembers().clear();
-        network.getPendingMembers().clear();
-        handler.getManager().getNetworkRepository().remove(network);
-
-        new Scheduler(handler.getManager().getPlugin()).async(() -> {
-            NetworkDAO.deleteNetwork(handler.getManager().getPlugin().getDatabaseInstance(), network);
-
-            for (Snitch snitch : snitches) {
-                SnitchDAO.deleteSnitch(handler.getManager().getPlugin().getDatabaseInstance(), snitch);
-            }
-
-            for (Claim claim : claims) {
-                ClaimDAO.deleteClaim(handler.getManager().getPlugin().getDatabaseInstance(), claim);
-            }
-
-            for (Factory factory : factories) {
-                FactoryDAO.deleteFactory(handler.getManager().getPlugin().getDatabaseInstance(), factory);
-            }
-
-            for (Bastion bastion : bastions) {
-                BastionDAO.deleteBastion(handler.getManager().getPlugin().getDatabaseInstance(), bastion);
-            }
-        }).run();
+        handler.deleteNetworks(Collections.singletonList(network));
 
         Logger.print("Network " + network.getName() + "(" + network.getUniqueId().toString() + ") has been disbanded by " + player.getName() + "(" + player.getUniqueId().toString() + ")");
 
@@ -240,15 +198,15 @@ public final class NetworkManageHandler {
             return;
         }
 
-        if (handler.getManager().getNetworkByName(newName) != null) {
+        final String previousName = network.getName();
+
+        if (!handler.getManager().getNetworkRepository().rename(network, newName)) {
             promise.fail("Network name is already in use");
             return;
         }
 
-        network.sendMessage(ChatColor.BLUE + player.getName() + ChatColor.YELLOW + " renamed " + ChatColor.GOLD + network.getName() + ChatColor.YELLOW + " to " + ChatColor.GOLD + newName);
-        Logger.print("Network " + network.getName() + "(" + network.getUniqueId().toString() + ") has been renamed to " + newName + " by " + player.getName() + "(" + player.getUniqueId().toString() + ")");
-
-        network.setName(newName);
+        network.sendMessage(ChatColor.BLUE + player.getName() + ChatColor.YELLOW + " renamed " + ChatColor.GOLD + previousName + ChatColor.YELLOW + " to " + ChatColor.GOLD + newName);
+        Logger.print("Network " + previousName + "(" + network.getUniqueId().toString() + ") has been renamed to " + newName + " by " + player.getName() + "(" + player.getUniqueId().toString() + ")");
 
         renameCooldowns.put(player.getUniqueId(), (Time.now() + (handler.getManager().getPlugin().getConfigManager().getGeneralConfig().getNetworkRenameCooldown() * 1000L)));
         new Scheduler(handler.getManager().getPlugin()).sync(() -> renameCooldowns.remove(bukkitID)).delay(handler.getManager().getPlugin().getConfigManager().getGeneralConfig().getNetworkRenameCooldown() * 1000L).run();
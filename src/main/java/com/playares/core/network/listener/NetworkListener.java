@@ -12,6 +12,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Collection;
 
@@ -30,8 +31,10 @@ public final class NetworkListener implements Listener {
 
             if (!member.getUsername().equals(player.getName())) {
                 member.setUsername(player.getName());
+                manager.getNetworkRepository().indexMember(network, member);
             }
 
+            network.setOnline(player);
             network.setLastSeen(Time.now());
         });
 
@@ -44,4 +47,10 @@ public final class NetworkListener implements Listener {
             }).delay(3 * 20L).run();
         }
     }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        final Player player = event.getPlayer();
+        manager.getNetworksByPlayer(player).forEach(network -> network.setOffline(player.getUniqueId()));
+    }
 }
\ No newline at end of file
@@ -1,36 +1,36 @@
 package com.playares.core.player;
 
-import com.google.common.collect.Sets;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
 import com.playares.commons.connect.mongodb.MongoDB;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.core.Ares;
 import com.playares.core.player.data.AresPlayer;
 import com.playares.core.player.listener.PlayerListener;
+import com.playares.core.utils.BulkWriteUtil;
+import com.playares.core.utils.KeyedRepository;
 import lombok.Getter;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
-import java.util.Set;
+import java.util.Arrays;
 import java.util.UUID;
 
 public final class PlayerManager {
     @Getter public final Ares plugin;
     @Getter public final PlayerHandler handler;
-    @Getter public final Set<AresPlayer> playerRepository;
+    @Getter public final KeyedRepository<AresPlayer> playerRepository;
 
     public PlayerManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new PlayerHandler(this);
-        this.playerRepository = Sets.newConcurrentHashSet();
+        this.playerRepository = new KeyedRepository<>(AresPlayer::getUniqueId);
 
         plugin.registerListener(new PlayerListener(this));
     }
 
     public AresPlayer getPlayer(UUID uniqueId) {
-        return playerRepository.stream().filter(player -> player.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return playerRepository.get(uniqueId);
     }
 
     public AresPlayer getPlayer(String username) {
@@ -66,38 +66,18 @@ public final class PlayerManager {
      */
     public void setPlayer(boolean blocking, AresPlayer... players) {
         if (blocking) {
-            for (AresPlayer player : players) {
-                final MongoDB database = plugin.getDatabaseInstance();
-                final MongoCollection<Document> collection = database.getCollection(plugin.getConfigManager().getGeneralConfig().getDatabaseName(), "players");
-                final Document existing = collection.find(Filters.eq("id", player.getUniqueId())).first();
+            final MongoCollection<Document> collection = plugin.getDatabaseInstance().getCollection(plugin.getConfigManager().getGeneralConfig().getDatabaseName(), "players");
+            final int saved = BulkWriteUtil.upsert(collection, Arrays.asList(players), plugin.getConfigManager().getGeneralConfig().getDatabaseBatchSize());
 
-                if (existing != null) {
-                    collection.replaceOne(existing, player.toDocument());
-                    continue;
-                }
-
-                collection.insertOne(player.toDocument());
-            }
-
-            Logger.print("Finished saving " + players.length + " Ares Players");
+            Logger.print("Finished saving " + saved + " Ares Players");
             return;
         }
 
         new Scheduler(plugin).async(() -> {
-            for (AresPlayer player : players) {
-                final MongoDB database = plugin.getDatabaseInstance();
-                final MongoCollection<Document> collection = database.getCollection(plugin.getConfigManager().getGeneralConfig().getDatabaseName(), "players");
-                final Document existing = collection.find(Filters.eq("id", player.getUniqueId())).first();
-
-                if (existing != null) {
-                    collection.replaceOne(existing, player.toDocument());
-                    continue;
-                }
-
-                collection.insertOne(player.toDocument());
-            }
+            final MongoCollection<Document> collection = plugin.getDatabaseInstance().getCollection(plugin.getConfigManager().getGeneralConfig().getDatabaseName(), "players");
+            final int saved = BulkWriteUtil.upsert(collection, Arrays.asList(players), plugin.getConfigManager().getGeneralConfig().getDatabaseBatchSize());
 
-            new Scheduler(plugin).sync(() -> Logger.print("Finished saving " + players.length + " Ares Players")).run();
+            new Scheduler(plugin).sync(() -> Logger.print("Finished saving " + saved + " Ares Players")).run();
         }).run();
     }
 }
@@ -60,14 +60,14 @@ public final class PrisonPearlHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all prison pearls to the database");
-            PrisonPearlDAO.savePearls(manager.getPlugin().getDatabaseInstance(), manager.getPearlRepository());
-            Logger.print("Saved " + manager.getPearlRepository().size() + " Prison Pearls");
+            final int saved = PrisonPearlDAO.savePearls(manager.getPlugin().getDatabaseInstance(), manager.getPearlRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize());
+            Logger.print("Saved " + saved + " Prison Pearls");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            PrisonPearlDAO.savePearls(manager.getPlugin().getDatabaseInstance(), manager.getPearlRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getPearlRepository().size() + " Prison Pearls")).run();
+            final int saved = PrisonPearlDAO.savePearls(manager.getPlugin().getDatabaseInstance(), manager.getPearlRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize());
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Prison Pearls")).run();
         }).run();
     }
 
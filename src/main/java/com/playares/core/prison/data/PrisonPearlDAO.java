@@ -8,6 +8,7 @@ import com.mongodb.client.model.Filters;
 import com.mongodb.client.result.DeleteResult;
 import com.playares.commons.connect.mongodb.MongoDB;
 import com.playares.commons.util.general.Time;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
@@ -53,19 +54,12 @@ public final class PrisonPearlDAO {
      * Save a collection of Prison Pearls to the provided MongoDB instance
      * @param database MongoDB Instance
      * @param pearls Collection of Prison Pearls
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void savePearls(MongoDB database, Collection<PrisonPearl> pearls) {
+    public static int savePearls(MongoDB database, Collection<PrisonPearl> pearls, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        pearls.forEach(pearl -> {
-            final Document existing = collection.find(Filters.eq("id", pearl.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, pearl.toDocument());
-            } else {
-                collection.insertOne(pearl.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsert(collection, pearls, batchSize);
     }
 
     /**
@@ -1,6 +1,12 @@
 package com.playares.core.snitch;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.mongodb.MongoException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.playares.commons.connect.mongodb.MongoDB;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.logger.Logger;
 import com.playares.commons.promise.SimplePromise;
@@ -14,24 +20,35 @@ import com.playares.core.player.data.AresPlayer;
 import com.playares.core.snitch.data.Snitch;
 import com.playares.core.snitch.data.SnitchDAO;
 import com.playares.core.snitch.data.SnitchEntry;
+import com.playares.core.snitch.data.SnitchEntryDAO;
 import com.playares.core.snitch.data.SnitchEntryType;
+import com.playares.core.snitch.data.SnitchSearch;
 import com.playares.core.snitch.menu.SnitchListMenu;
 import com.playares.core.snitch.menu.SnitchLogMenu;
+import com.playares.core.snitch.menu.SnitchSearchMenu;
 import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
 public final class SnitchHandler {
+    private static final Set<SnitchEntryType> NOTIFYING_TYPES = Sets.immutableEnumSet(SnitchEntryType.LOGIN, SnitchEntryType.LOGOUT, SnitchEntryType.SPOTTED, SnitchEntryType.KILL);
+
     @Getter public final SnitchManager manager;
+    @Getter public final Queue<SnitchEntry> pendingEntries;
 
     public SnitchHandler(SnitchManager manager) {
         this.manager = manager;
+        this.pendingEntries = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -41,17 +58,72 @@ public final class SnitchHandler {
     public void loadAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to load all snitches from the database");
-            manager.getSnitchRepository().addAll(SnitchDAO.getSnitches(manager.getPlugin().getDatabaseInstance()));
+            load();
             Logger.print("Loaded " + manager.getSnitchRepository().size() + " Snitches");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            manager.getSnitchRepository().addAll(SnitchDAO.getSnitches(manager.getPlugin().getDatabaseInstance()));
+            load();
             new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Loaded " + manager.getSnitchRepository().size() + " Snitches")).run();
         }).run();
     }
 
+    /**
+     * Loads all snitches and their unexpired log entries, migrating embedded log entries first
+     */
+    private void load() {
+        final MongoDB database = manager.getPlugin().getDatabaseInstance();
+
+        SnitchEntryDAO.createIndexes(database);
+
+        final int migrated = SnitchEntryDAO.migrateEmbeddedEntries(database);
+
+        if (migrated > 0) {
+            Logger.print("Migrated " + migrated + " embedded Snitch Entries");
+        }
+
+        final ImmutableMultimap<UUID, SnitchEntry> entries = SnitchEntryDAO.getEntries(database);
+        final int logCapacity = manager.getPlugin().getConfigManager().getSnitchesConfig().getMaxLogEntries();
+
+        for (Snitch snitch : SnitchDAO.getSnitches(database)) {
+            final Collection<SnitchEntry> snitchEntries = entries.get(snitch.getUniqueId());
+
+            // Entries share the snitch's UUID instance instead of each holding a decoded copy
+            snitchEntries.forEach(entry -> entry.setSnitchId(snitch.getUniqueId()));
+
+            snitch.getLogEntries().setCapacity(logCapacity);
+            snitch.getLogEntries().addAll(snitchEntries);
+            manager.getSnitchRepository().add(snitch);
+        }
+    }
+
+    /**
+     * Appends all pending log entries to the database
+     *
+     * If the write fails the polled entries are queued again for the next flush
+     *
+     * @return Amount of entries written
+     */
+    public int flushEntries() {
+        return manager.getPlugin().getWriteBarrier().write(() -> {
+            final List<SnitchEntry> entries = Lists.newArrayList();
+            SnitchEntry entry;
+
+            while ((entry = pendingEntries.poll()) != null) {
+                entries.add(entry);
+            }
+
+            try {
+                return SnitchEntryDAO.insertEntries(manager.getPlugin().getDatabaseInstance(), entries);
+            } catch (MongoException ex) {
+                Logger.error("Failed to flush " + entries.size() + " snitch entries, retrying next flush: " + ex.getMessage());
+                entries.stream().filter(failed -> manager.getSnitchRepository().getSnitchByID(failed.getSnitchId()) != null).forEach(pendingEntries::offer);
+                return 0;
+            }
+        });
+    }
+
     /**
      * Save all snitches in memory to the MongoDB instance
      * @param blocking Block the thread
@@ -59,37 +131,30 @@ public final class SnitchHandler {
     public void saveAll(boolean blocking) {
         if (blocking) {
             Logger.warn("Blocking the thread while attempting to save all snitches to the database");
-            SnitchDAO.saveSnitches(manager.getPlugin().getDatabaseInstance(), manager.getSnitchRepository());
-            Logger.print("Saved " + manager.getSnitchRepository().size() + " Snitches");
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> SnitchDAO.saveSnitches(manager.getPlugin().getDatabaseInstance(), manager.getSnitchRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            final int flushed = flushEntries();
+            Logger.print("Saved " + saved + " Snitches and " + flushed + " Snitch Entries");
             return;
         }
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            SnitchDAO.saveSnitches(manager.getPlugin().getDatabaseInstance(), manager.getSnitchRepository());
-            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + manager.getSnitchRepository().size() + " Snitches")).run();
+            final int saved = manager.getPlugin().getWriteBarrier().write(() -> SnitchDAO.saveSnitches(manager.getPlugin().getDatabaseInstance(), manager.getSnitchRepository(), manager.getPlugin().getConfigManager().getGeneralConfig().getDatabaseBatchSize()));
+            final int flushed = flushEntries();
+            new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Saved " + saved + " Snitches and " + flushed + " Snitch Entries")).run();
         }).run();
     }
 
     /**
-     * Performs a scrub on all Snitch Entries to remove expired log entries
+     * Performs a scrub on all Snitch Entries in memory to remove expired log entries
+     *
+     * Expired entries in the database are removed by the TTL index on the entry collection
      */
     public void performEntryCleanup() {
         Logger.warn("Starting Snitch Log Cleanup...");
 
         new Scheduler(manager.getPlugin()).async(() -> {
-            manager.getSnitchRepository().forEach(snitch -> {
-                final List<SnitchEntry> toRemove = Lists.newArrayList();
-
-                snitch.getLogEntries().forEach(entry -> {
-                    if (entry.getExpireDate() <= Time.now()) {
-                        toRemove.add(entry);
-                    }
-                });
-
-                snitch.getLogEntries().removeAll(toRemove);
-                SnitchDAO.saveSnitch(manager.getPlugin().getDatabaseInstance(), snitch);
-            });
-
+            final long now = Time.now();
+            manager.getSnitchRepository().forEach(snitch -> snitch.getLogEntries().removeIf(entry -> entry.getExpireDate() <= now));
             new Scheduler(manager.getPlugin()).sync(() -> Logger.print("Completed Snitch Log Cleanup")).run();
         }).run();
     }
@@ -100,6 +165,7 @@ public final class SnitchHandler {
      */
     public void deleteSnitch(Snitch snitch) {
         manager.getSnitchRepository().remove(snitch);
+        pendingEntries.removeIf(entry -> snitch.getUniqueId().equals(entry.getSnitchId()));
 
         new Scheduler(getManager().getPlugin()).async(() -> {
             SnitchDAO.deleteSnitch(manager.getPlugin().getDatabaseInstance(), snitch);
@@ -156,6 +222,7 @@ public final class SnitchHandler {
         }
 
         final Snitch snitch = new Snitch(description, network.getUniqueId(), block, (Time.now() + (getManager().getPlugin().getConfigManager().getSnitchesConfig().getExpireTime() * 1000)));
+        snitch.getLogEntries().setCapacity(getManager().getPlugin().getConfigManager().getSnitchesConfig().getMaxLogEntries());
         manager.getSnitchRepository().add(snitch);
         network.sendMessage(ChatColor.BLUE + player.getName() + ChatColor.YELLOW + " created a new " + ChatColor.AQUA + "Snitch Block" + ChatColor.YELLOW + " at " + ChatColor.GREEN + snitch.getLocation().toString());
         player.sendMessage(ChatColor.AQUA + "Snitch" + ChatColor.YELLOW + " will mature in " + ChatColor.GOLD + Time.convertToRemaining(snitch.getMatureTime() - Time.now()));
@@ -181,32 +248,18 @@ public final class SnitchHandler {
         }
 
         final SnitchEntry entry = new SnitchEntry(
+                snitch.getUniqueId(),
                 type,
                 (player != null ? player.getName() : null),
                 material.name(),
-                type.getDisplayName(),
                 locatable,
                 (Time.now() + (manager.getPlugin().getConfigManager().getSnitchesConfig().getLogEntryExpireSeconds() * 1000)));
 
         snitch.getLogEntries().add(entry);
+        pendingEntries.offer(entry);
 
-        final String notification = formatNotification(snitch, entry);
-
-        if (player != null && notification != null && network.getConfiguration().isSnitchNotificationsEnabled()) {
-            final List<NetworkMember> receivers = Lists.newArrayList();
-
-            receivers.addAll(network.getOnlineMembers()
-                    .stream()
-                    .filter(member -> member.hasPermission(NetworkPermission.VIEW_SNITCHES) || member.hasPermission(NetworkPermission.ADMIN))
-                    .collect(Collectors.toList()));
-
-            receivers.stream().filter(receiver -> receiver.getBukkitPlayer() != null).forEach(receiver -> {
-                final AresPlayer receiverProfile = manager.getPlugin().getPlayerManager().getPlayer(receiver.getUniqueId());
-
-                if (receiverProfile != null && receiverProfile.getSettings().isSnitchNotificationsEnabled()) {
-                    receiver.getBukkitPlayer().sendMessage(notification);
-                }
-            });
+        if (player != null && network != null) {
+            manager.getNotificationBatcher().add(network, snitch, entry);
         }
     }
 
@@ -245,6 +298,8 @@ public final class SnitchHandler {
         }
 
         snitch.getLogEntries().clear();
+        pendingEntries.removeIf(entry -> snitch.getUniqueId().equals(entry.getSnitchId()));
+        new Scheduler(manager.getPlugin()).async(() -> SnitchEntryDAO.deleteEntries(manager.getPlugin().getDatabaseInstance(), snitch.getUniqueId())).run();
         Logger.print(player.getName() + "(" + player.getUniqueId().toString() + ") cleared the logs for a snitch owned by " + network.getName() + "(" + network.getUniqueId().toString() + ") at " + snitch.getLocation().toString());
         promise.success();
     }
@@ -283,9 +338,7 @@ public final class SnitchHandler {
             return;
         }
 
-        final List<SnitchEntry> entries = Lists.newArrayList(snitch.getSortedEntries());
-
-        if (snitch.getLogEntries().isEmpty() || entries.isEmpty()) {
+        if (snitch.getLogEntries().isEmpty()) {
             promise.fail("Could not find any records within the provided timeframe");
             return;
         }
@@ -334,6 +387,115 @@ public final class SnitchHandler {
         promise.success();
     }
 
+    /**
+     * Handles searching the log entries of every snitch owned by a network
+     * @param player Player
+     * @param networkName Network Name
+     * @param entity Entity name, or null for any
+     * @param typeName Entry type name, or null for any
+     * @param hours Amount of hours to search back
+     * @param promise Promise
+     */
+    public void searchLogs(Player player, String networkName, String entity, String typeName, int hours, SimplePromise promise) {
+        final Network network = manager.getPlugin().getNetworkManager().getNetworkByName(networkName);
+        final boolean admin = player.hasPermission("arescore.admin");
+        SnitchEntryType type = null;
+
+        if (network == null) {
+            promise.fail("Network not found");
+            return;
+        }
+
+        final NetworkMember member = network.getMember(player);
+
+        if (member == null && !admin) {
+            promise.fail("You are not a member of this network");
+            return;
+        }
+
+        if (!admin && !(member.hasPermission(NetworkPermission.ADMIN) || member.hasPermission(NetworkPermission.VIEW_SNITCHES))) {
+            promise.fail("You do not have permission to perform this action");
+            return;
+        }
+
+        if (typeName != null && !typeName.equals("*")) {
+            try {
+                type = SnitchEntryType.valueOf(typeName.toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                promise.fail("Invalid entry type");
+                return;
+            }
+        }
+
+        if (hours <= 0) {
+            promise.fail("Hours must be greater than 0");
+            return;
+        }
+
+        final List<Snitch> snitches = manager.getSnitchByOwner(network);
+
+        if (snitches.isEmpty()) {
+            promise.fail("This network does not have any active snitch blocks");
+            return;
+        }
+
+        final ImmutableMap.Builder<UUID, String> snitchNames = ImmutableMap.builder();
+        snitches.forEach(snitch -> snitchNames.put(snitch.getUniqueId(), snitch.getName()));
+
+        final SnitchSearch search = new SnitchSearch(
+                network.getName(),
+                snitchNames.build(),
+                (entity != null && !entity.equals("*")) ? entity : null,
+                type,
+                Time.now() - (hours * 3600000L));
+
+        searchLogs(player, search, 0, promise);
+    }
+
+    /**
+     * Handles running a snitch log search off the main thread and opening the provided page of results
+     * @param player Player
+     * @param search Snitch Search
+     * @param page Page, starting at 0
+     * @param promise Promise
+     */
+    public void searchLogs(Player player, SnitchSearch search, int page, SimplePromise promise) {
+        final long maxTime = manager.getPlugin().getConfigManager().getSnitchesConfig().getSearchMaxTime();
+
+        new Scheduler(manager.getPlugin()).async(() -> {
+            final List<SnitchEntry> results;
+
+            flushEntries();
+
+            try {
+                results = SnitchEntryDAO.searchEntries(
+                        manager.getPlugin().getDatabaseInstance(),
+                        search.getSnitchNames().keySet(),
+                        search.getEntity(),
+                        search.getType(),
+                        search.getSince(),
+                        page * SnitchSearchMenu.PAGE_SIZE,
+                        SnitchSearchMenu.PAGE_SIZE + 1,
+                        maxTime);
+            } catch (MongoExecutionTimeoutException ex) {
+                new Scheduler(manager.getPlugin()).sync(() -> promise.fail("Search took too long, try narrowing your filters")).run();
+                return;
+            }
+
+            new Scheduler(manager.getPlugin()).sync(() -> {
+                if (results.isEmpty()) {
+                    promise.fail("Could not find any records matching your search");
+                    return;
+                }
+
+                final boolean hasNextPage = results.size() > SnitchSearchMenu.PAGE_SIZE;
+                final SnitchSearchMenu menu = new SnitchSearchMenu(this, player, search, (hasNextPage ? results.subList(0, SnitchSearchMenu.PAGE_SIZE) : results), page, hasNextPage);
+                menu.open();
+                promise.success();
+            }).run();
+        }).run();
+    }
+
     /**
      * Handles opening a GUI containing all nearby friendly snitches
      * @param player Player
@@ -359,7 +521,26 @@ public final class SnitchHandler {
         }).run();
     }
 
-    private String formatNotification(Snitch snitch, SnitchEntry entry) {
+    /**
+     * Returns true if entries of the provided type produce a notification
+     * @param type Snitch Entry Type
+     * @return True if notifying
+     */
+    boolean isNotifying(SnitchEntryType type) {
+        return NOTIFYING_TYPES.contains(type);
+    }
+
+    /**
+     * Returns a formatted notification for the provided entry
+     * @param snitch Snitch
+     * @param entry Snitch Entry
+     * @return Notification, or null if this entry type does not notify
+     */
+    String formatNotification(Snitch snitch, SnitchEntry entry) {
+        if (!isNotifying(entry.getType())) {
+            return null;
+        }
+
         if (entry.getType().equals(SnitchEntryType.LOGIN)) {
             return ChatColor.WHITE + "* " + ChatColor.AQUA + entry.getEntity() + " connected at " + snitch.getName() + " [" + snitch.getLocation().getX() + ", " + snitch.getLocation().getY() + ", " + snitch.getLocation().getZ() + ", " + snitch.getLocation().getBukkit().getWorld().getEnvironment().name().toLowerCase() + "]";
         }
@@ -1,112 +1,50 @@
 package com.playares.core.snitch;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.util.bukkit.Scheduler;
 import com.playares.core.Ares;
 import com.playares.core.network.data.Network;
 import com.playares.core.snitch.data.Snitch;
-import com.playares.core.snitch.data.SnitchEntryType;
+import com.playares.core.snitch.data.SnitchRepository;
 import com.playares.core.snitch.listener.SnitchListener;
+import com.playares.core.snitch.listener.SnitchMovementListener;
 import lombok.Getter;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class SnitchManager {
     @Getter public Ares plugin;
     @Getter public final SnitchHandler handler;
-    @Getter public final Set<Snitch> snitchRepository;
-    @Getter public final List<Runnable> searchQueue;
+    @Getter public final SnitchRepository snitchRepository;
+    @Getter public final SnitchSearchQueue searchQueue;
     @Getter public BukkitTask queueTask;
-    @Getter public BukkitTask movementTask;
+    @Getter public BukkitTask entryFlushTask;
+    @Getter public final SnitchPresenceTracker presenceTracker;
+    @Getter public final SnitchNotificationBatcher notificationBatcher;
 
     public SnitchManager(Ares plugin) {
         this.plugin = plugin;
         this.handler = new SnitchHandler(this);
-        this.snitchRepository = Sets.newConcurrentHashSet();
-        this.searchQueue = Lists.newArrayList();
+        this.snitchRepository = new SnitchRepository(plugin.getConfigManager().getSnitchesConfig().getSearchRadius());
+        this.searchQueue = new SnitchSearchQueue(
+                plugin.getConfigManager().getSnitchesConfig().getSearchThreads(),
+                plugin.getConfigManager().getSnitchesConfig().getSearchQueueCapacity());
 
         Bukkit.getPluginManager().registerEvents(new SnitchListener(this), plugin);
+        Bukkit.getPluginManager().registerEvents(new SnitchMovementListener(this), plugin);
 
-        this.queueTask = new Scheduler(plugin).async(() -> {
-            final List<Runnable> snapshot = Lists.newArrayList(searchQueue);
+        this.queueTask = new Scheduler(plugin).async(searchQueue::drain).repeat(0L, 1L).run();
 
-            for (Runnable runnable : snapshot) {
-                if (runnable == null) {
-                    continue;
-                }
+        final long flushInterval = Math.max(1, plugin.getConfigManager().getSnitchesConfig().getEntryFlushInterval()) * 20L;
+        this.entryFlushTask = new Scheduler(plugin).async(handler::flushEntries).repeat(flushInterval, flushInterval).run();
 
-                new Scheduler(plugin).async(runnable).run();
-            }
-
-            searchQueue.clear();
-        }).repeat(0L, 1L).run();
-
-        this.movementTask = new Scheduler(plugin).sync(() -> {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                final UUID bukkitUUID = player.getUniqueId();
-                final BLocatable currentLocation = new BLocatable(player.getLocation().getBlock());
-                final Collection<Network> networks = plugin.getNetworkManager().getNetworksByPlayer(player);
-                final Set<UUID> networkIds = Sets.newHashSet();
-                final boolean admin = player.hasPermission("arescore.admin");
-
-                if (admin) {
-                    continue;
-                }
-
-                for (Network network : networks) {
-                    networkIds.add(network.getUniqueId());
-                }
-
-                final Runnable task = () -> {
-                    final List<Snitch> spottedSnitches = getSnitchBySpotted(bukkitUUID);
-                    final List<Snitch> radiusSnitches = getSnitchByRadius(currentLocation, getPlugin().getConfigManager().getSnitchesConfig().getSearchRadius());
-                    final List<Snitch> toRemove = Lists.newArrayList();
-                    final List<Snitch> toAdd = Lists.newArrayList();
-
-                    // Removes all snitches spotted by but are no longer in radius of
-                    toRemove.addAll(spottedSnitches.stream()
-                            .filter(snitch -> !radiusSnitches.contains(snitch))
-                            .collect(Collectors.toList()));
-
-                    // Adds all snitches in radius that are not marked as spotted
-                    toAdd.addAll(radiusSnitches.stream()
-                            .filter(snitch -> !spottedSnitches.contains(snitch))
-                            .filter(snitch -> !networkIds.contains(snitch.getOwnerId()))
-                            .collect(Collectors.toList()));
-
-                    // Updates the location for all snitches already spotted by
-                    spottedSnitches
-                            .stream()
-                            .filter(snitch -> snitch.inRadius(currentLocation, getPlugin().getConfigManager().getSnitchesConfig().getSearchRadius()))
-                            .forEach(snitch -> snitch.getSpotted().put(bukkitUUID, currentLocation));
-
-                    // Remove spotted status from removed snitches
-                    toRemove.forEach(removed -> removed.getSpotted().remove(bukkitUUID));
-
-                    toAdd.forEach(added -> {
-                        // Setting current location for snitch last seen check
-                        added.getSpotted().put(bukkitUUID, currentLocation);
-
-                        // Triggering snitch for newly added snitches
-                        new Scheduler(plugin).sync(() -> handler.triggerSnitch(added, player, currentLocation, Material.AIR, SnitchEntryType.SPOTTED)).run();
-                    });
-                };
-
-                searchQueue.add(task);
-            }
-        }).repeat(0L, 3 * 20L).run();
+        this.presenceTracker = new SnitchPresenceTracker(this);
+        this.notificationBatcher = new SnitchNotificationBatcher(this);
     }
 
     /**
@@ -115,7 +53,7 @@ public final class SnitchManager {
      * @return Snitch
      */
     public Snitch getSnitchByID(UUID uniqueId) {
-        return snitchRepository.stream().filter(snitch -> snitch.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
+        return snitchRepository.getSnitchByID(uniqueId);
     }
 
     /**
@@ -124,23 +62,17 @@ public final class SnitchManager {
      * @return Snitch
      */
     public Snitch getSnitchByBlock(Block block) {
-        final double x = block.getLocation().getX();
-        final double y = block.getLocation().getY();
-        final double z = block.getLocation().getZ();
-        final String world = block.getLocation().getWorld().getName();
-
-        return snitchRepository.stream().filter(snitch ->
-                snitch.getLocation().getX() == x && snitch.getLocation().getY() == y && snitch.getLocation().getZ() == z && snitch.getLocation().getWorldName().equals(world)).findFirst().orElse(null);
+        return snitchRepository.getSnitchByBlock(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
     }
 
     /**
-     * Returns an Immutable List of Snitch instances within the provided radius of the provided block location
+     * Returns an Immutable List of mature Snitch instances within the provided radius of the provided block location
      * @param location Block location
      * @param radius Radius
      * @return Immutable List of Snitches
      */
     public ImmutableList<Snitch> getSnitchByRadius(BLocatable location, double radius) {
-        return ImmutableList.copyOf(snitchRepository.stream().filter(snitch -> snitch.inRadius(location, radius) && snitch.isMature()).collect(Collectors.toList()));
+        return ImmutableList.copyOf(snitchRepository.getSnitchByRadius(location, radius).stream().filter(Snitch::isMature).collect(Collectors.toList()));
     }
 
     /**
@@ -149,7 +81,7 @@ public final class SnitchManager {
      * @return Immutable List of Snitches
      */
     public ImmutableList<Snitch> getSnitchBySpotted(UUID uniqueId) {
-        return ImmutableList.copyOf(snitchRepository.stream().filter(snitch -> snitch.getSpotted().containsKey(uniqueId)).collect(Collectors.toList()));
+        return snitchRepository.getSnitchBySpotted(uniqueId).asList();
     }
 
     /**
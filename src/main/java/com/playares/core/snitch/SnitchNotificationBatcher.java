@@ -0,0 +1,186 @@
+package com.playares.core.snitch;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.playares.commons.util.bukkit.Scheduler;
+import com.playares.core.network.data.Network;
+import com.playares.core.network.data.NetworkMember;
+import com.playares.core.network.data.NetworkPermission;
+import com.playares.core.player.data.AresPlayer;
+import com.playares.core.snitch.data.Snitch;
+import com.playares.core.snitch.data.SnitchEntry;
+import com.playares.core.snitch.data.SnitchEntryType;
+import lombok.Getter;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Merges snitch notifications over a short window before sending them
+ *
+ * Notifications for the same snitch, player and entry type within a window are merged
+ * in to a single line with a count. Once per window each network's lines are capped at
+ * the configured limit and sent to every receiver as a single message, so receivers
+ * are resolved once per network per window instead of once per trigger.
+ *
+ * This class is only accessed from the main thread.
+ */
+public final class SnitchNotificationBatcher {
+    @Getter public final SnitchManager manager;
+    @Getter public final BukkitTask flushTask;
+    private final Map<UUID, Map<NotificationKey, Notification>> pending;
+
+    public SnitchNotificationBatcher(SnitchManager manager) {
+        final long window = Math.max(1, manager.getPlugin().getConfigManager().getSnitchesConfig().getNotificationWindow()) * 20L;
+
+        this.manager = manager;
+        this.pending = Maps.newLinkedHashMap();
+        this.flushTask = new Scheduler(manager.getPlugin()).sync(this::flush).repeat(window, window).run();
+    }
+
+    /**
+     * Queues a notification for the provided entry
+     * @param network Network owning the snitch
+     * @param snitch Snitch
+     * @param entry Snitch Entry
+     */
+    public void add(Network network, Snitch snitch, SnitchEntry entry) {
+        // Entry types that never produce a line would only inflate the overflow count
+        if (!manager.getHandler().isNotifying(entry.getType())) {
+            return;
+        }
+
+        final Map<NotificationKey, Notification> notifications = pending.computeIfAbsent(network.getUniqueId(), id -> Maps.newLinkedHashMap());
+        final NotificationKey key = new NotificationKey(snitch.getUniqueId(), entry.getEntity(), entry.getType());
+        final Notification existing = notifications.get(key);
+
+        if (existing != null) {
+            existing.increment(entry.getCreatedDate());
+            return;
+        }
+
+        notifications.put(key, new Notification(snitch, entry));
+    }
+
+    /**
+     * Sends all pending notifications, one message per receiver per network
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final int limit = Math.max(1, manager.getPlugin().getConfigManager().getSnitchesConfig().getNotificationNetworkLimit());
+
+        pending.forEach((networkId, notifications) -> {
+            final Network network = manager.getPlugin().getNetworkManager().getNetworkByID(networkId);
+
+            if (network == null || !network.getConfiguration().isSnitchNotificationsEnabled()) {
+                return;
+            }
+
+            final List<String> lines = Lists.newArrayList();
+            int suppressed = 0;
+
+            for (Notification notification : notifications.values()) {
+                if (lines.size() >= limit) {
+                    suppressed += notification.getCount();
+                    continue;
+                }
+
+                final String line = format(notification);
+
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+
+            if (lines.isEmpty()) {
+                return;
+            }
+
+            if (suppressed > 0) {
+                lines.add(ChatColor.GRAY + "* ...and " + suppressed + " more snitch alerts");
+            }
+
+            final String message = String.join("\n", lines);
+
+            for (Player receiver : network.getOnlinePlayers()) {
+                final NetworkMember member = network.getMember(receiver.getUniqueId());
+
+                if (member == null || (!member.hasPermission(NetworkPermission.VIEW_SNITCHES) && !member.hasPermission(NetworkPermission.ADMIN))) {
+                    continue;
+                }
+
+                final AresPlayer receiverProfile = manager.getPlugin().getPlayerManager().getPlayer(receiver.getUniqueId());
+
+                if (receiverProfile != null && receiverProfile.getSettings().isSnitchNotificationsEnabled()) {
+                    receiver.sendMessage(message);
+                }
+            }
+        });
+
+        pending.clear();
+    }
+
+    private String format(Notification notification) {
+        final String line = manager.getHandler().formatNotification(notification.getSnitch(), notification.getEntry());
+
+        if (line == null || notification.getCount() <= 1) {
+            return line;
+        }
+
+        return line + ChatColor.GRAY + " x" + notification.getCount() + " in " + Math.max(1L, (notification.getLastTime() - notification.getEntry().getCreatedDate()) / 1000L) + "s";
+    }
+
+    private static final class Notification {
+        @Getter private final Snitch snitch;
+        @Getter private final SnitchEntry entry;
+        @Getter private int count;
+        @Getter private long lastTime;
+
+        private Notification(Snitch snitch, SnitchEntry entry) {
+            this.snitch = snitch;
+            this.entry = entry;
+            this.count = 1;
+            this.lastTime = entry.getCreatedDate();
+        }
+
+        private void increment(long time) {
+            this.count++;
+            this.lastTime = time;
+        }
+    }
+
+    private static final class NotificationKey {
+        private final UUID snitchId;
+        private final String entity;
+        private final SnitchEntryType type;
+
+        private NotificationKey(UUID snitchId, String entity, SnitchEntryType type) {
+            this.snitchId = snitchId;
+            this.entity = entity;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof NotificationKey)) {
+                return false;
+            }
+
+            final NotificationKey other = (NotificationKey)object;
+            return snitchId.equals(other.snitchId) && type == other.type && Objects.equals(entity, other.entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(snitchId, entity, type);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.playares.core.snitch;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.playares.commons.location.BLocatable;
+import com.playares.commons.util.bukkit.Scheduler;
+import com.playares.core.network.data.Network;
+import com.playares.core.snitch.data.Snitch;
+import com.playares.core.snitch.data.SnitchEntryType;
+import com.playares.core.snitch.data.SnitchRepository;
+import com.playares.core.utils.BlockUtil;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks which snitches each player is currently spotted by
+ *
+ * Presence is recomputed when a player crosses in to a different detection cell, a cube
+ * of the configured detection cell size. Movement listeners call update as players move
+ * and a fallback sweep catches position changes that do not fire a move event, such as
+ * teleports by other plugins or vehicles.
+ *
+ * This class is only accessed from the main thread.
+ */
+public final class SnitchPresenceTracker {
+    @Getter public final SnitchManager manager;
+    @Getter public final BukkitTask sweepTask;
+    private final Map<UUID, PresenceCell> lastCells;
+
+    public SnitchPresenceTracker(SnitchManager manager) {
+        final long interval = manager.getPlugin().getConfigManager().getSnitchesConfig().getMovementCheckInterval() * 20L;
+
+        this.manager = manager;
+        this.lastCells = Maps.newHashMap();
+        this.sweepTask = new Scheduler(manager.getPlugin()).sync(() -> Bukkit.getOnlinePlayers().forEach(player -> update(player, player.getLocation(), false))).repeat(interval, interval).run();
+    }
+
+    /**
+     * Recomputes the snitches the provided player is spotted by if they have entered a new detection cell
+     * @param player Player
+     * @param location Player's current location
+     * @param force Recompute even if the player has not left their detection cell
+     */
+    public void update(Player player, Location location, boolean force) {
+        if (player.hasPermission("arescore.admin")) {
+            return;
+        }
+
+        final int cellSize = Math.max(1, manager.getPlugin().getConfigManager().getSnitchesConfig().getDetectionCellSize());
+        final PresenceCell cell = new PresenceCell(
+                location.getWorld().getName(),
+                BlockUtil.toPackedLong(Math.floorDiv(location.getBlockX(), cellSize), Math.floorDiv(location.getBlockY(), cellSize), Math.floorDiv(location.getBlockZ(), cellSize)));
+
+        final PresenceCell previous = lastCells.put(player.getUniqueId(), cell);
+
+        if (!force && cell.equals(previous)) {
+            return;
+        }
+
+        recompute(player, new BLocatable(location.getBlock()));
+    }
+
+    /**
+     * Stops tracking the provided Bukkit UUID and removes their spotted status from every snitch
+     * @param uniqueId Bukkit UUID
+     */
+    public void remove(UUID uniqueId) {
+        lastCells.remove(uniqueId);
+        manager.getSnitchRepository().removeSpotted(uniqueId);
+    }
+
+    private void recompute(Player player, BLocatable location) {
+        final SnitchRepository repository = manager.getSnitchRepository();
+        final UUID bukkitUUID = player.getUniqueId();
+        final Set<Snitch> spottedSnitches = repository.getSnitchBySpotted(bukkitUUID);
+        final Set<Snitch> radiusSnitches = ImmutableSet.copyOf(manager.getSnitchByRadius(location, manager.getPlugin().getConfigManager().getSnitchesConfig().getSearchRadius()));
+        Set<UUID> networkIds = null;
+
+        // Updates the location for snitches still in range and removes the rest
+        for (Snitch snitch : spottedSnitches) {
+            if (radiusSnitches.contains(snitch)) {
+                repository.setSpotted(snitch, bukkitUUID, location);
+            } else {
+                repository.removeSpotted(snitch, bukkitUUID);
+            }
+        }
+
+        for (Snitch snitch : radiusSnitches) {
+            if (spottedSnitches.contains(snitch)) {
+                continue;
+            }
+
+            if (networkIds == null) {
+                networkIds = Sets.newHashSet();
+
+                for (Network network : manager.getPlugin().getNetworkManager().getNetworksByPlayer(player)) {
+                    networkIds.add(network.getUniqueId());
+                }
+            }
+
+            if (networkIds.contains(snitch.getOwnerId())) {
+                continue;
+            }
+
+            repository.setSpotted(snitch, bukkitUUID, location);
+            manager.getHandler().triggerSnitch(snitch, player, location, Material.AIR, SnitchEntryType.SPOTTED);
+        }
+    }
+
+    private static final class PresenceCell {
+        private final String world;
+        private final long key;
+
+        private PresenceCell(String world, long key) {
+            this.world = world;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof PresenceCell)) {
+                return false;
+            }
+
+            final PresenceCell other = (PresenceCell)object;
+            return key == other.key && world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * world.hashCode() + Long.hashCode(key);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.playares.core.snitch;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.playares.commons.logger.Logger;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs snitch radius searches on a bounded worker pool
+ *
+ * Searches are submitted from the main thread in to a lock-free queue and drained once
+ * per cycle. Drained searches are appended to a per-player queue, and a job is only
+ * started for a player who has none queued or running. The job runs that player's
+ * searches in order, including ones appended while it runs, and releases the player
+ * once their queue is empty. Every player has at most one job on the pool at a time.
+ *
+ * When the pool queue is full the draining thread runs the job itself, which applies
+ * back pressure instead of dropping log entries.
+ */
+public final class SnitchSearchQueue {
+    private final Queue<SearchRequest> pending;
+    private final Map<UUID, Deque<SearchRequest>> active;
+    @Getter public final ThreadPoolExecutor executor;
+
+    @Getter public final AtomicInteger queueDepth;
+    @Getter public final AtomicLong submitted;
+    @Getter public final AtomicLong coalesced;
+    @Getter public final AtomicLong completed;
+    @Getter public final AtomicLong totalLatency;
+    @Getter public final AtomicLong maxLatency;
+
+    public SnitchSearchQueue(int threads, int capacity) {
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.active = Maps.newConcurrentMap();
+        this.executor = new ThreadPoolExecutor(
+                Math.max(1, threads),
+                Math.max(1, threads),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacity)),
+                new ThreadFactoryBuilder().setNameFormat("Ares Snitch Search #%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.queueDepth = new AtomicInteger(0);
+        this.submitted = new AtomicLong(0L);
+        this.coalesced = new AtomicLong(0L);
+        this.completed = new AtomicLong(0L);
+        this.totalLatency = new AtomicLong(0L);
+        this.maxLatency = new AtomicLong(0L);
+    }
+
+    /**
+     * Queues a search for the provided player
+     * @param uniqueId Bukkit UUID
+     * @param task Search task
+     */
+    public void submit(UUID uniqueId, Runnable task) {
+        pending.offer(new SearchRequest(uniqueId, task, System.nanoTime()));
+        queueDepth.incrementAndGet();
+        submitted.incrementAndGet();
+    }
+
+    /**
+     * Drains all pending searches in to the per-player queues, starting a job for each player without one
+     */
+    public void drain() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final List<UUID> started = Lists.newArrayList();
+        SearchRequest request;
+
+        while ((request = pending.poll()) != null) {
+            final SearchRequest queued = request;
+
+            active.compute(queued.getUniqueId(), (id, requests) -> {
+                if (requests == null) {
+                    requests = new ArrayDeque<>();
+                    started.add(id);
+                } else {
+                    coalesced.incrementAndGet();
+                }
+
+                requests.add(queued);
+                return requests;
+            });
+        }
+
+        for (UUID uniqueId : started) {
+            try {
+                executor.execute(() -> run(uniqueId));
+            } catch (RejectedExecutionException ex) {
+                // Pool is shutting down
+                final Deque<SearchRequest> dropped = active.remove(uniqueId);
+
+                if (dropped != null) {
+                    queueDepth.addAndGet(-dropped.size());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Average search latency from submission to completion in milliseconds
+     */
+    public double getAverageLatency() {
+        final long count = completed.get();
+        return (count == 0L) ? 0.0 : (totalLatency.get() / (double)count) / 1000000.0;
+    }
+
+    /**
+     * @return Highest search latency from submission to completion in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatency.get() / 1000000.0;
+    }
+
+    /**
+     * Resets the latency and throughput counters
+     */
+    public void resetMetrics() {
+        submitted.set(0L);
+        coalesced.set(0L);
+        completed.set(0L);
+        totalLatency.set(0L);
+        maxLatency.set(0L);
+    }
+
+    private void run(UUID uniqueId) {
+        SearchRequest request;
+
+        while ((request = next(uniqueId)) != null) {
+            try {
+                request.getTask().run();
+            } catch (Exception ex) {
+                Logger.error("Failed to perform snitch search: " + ex.getMessage());
+            }
+
+            final long latency = System.nanoTime() - request.getQueuedTime();
+
+            queueDepth.decrementAndGet();
+            completed.incrementAndGet();
+            totalLatency.addAndGet(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    /**
+     * Returns the next search queued for the provided player, releasing the player if there are none
+     * @param uniqueId Bukkit UUID
+     * @return Search Request, or null if the player has been released
+     */
+    private SearchRequest next(UUID uniqueId) {
+        final SearchRequest[] next = new SearchRequest[1];
+
+        active.compute(uniqueId, (id, requests) -> {
+            next[0] = (requests != null) ? requests.poll() : null;
+            return (next[0] != null) ? requests : null;
+        });
+
+        return next[0];
+    }
+
+    private static final class SearchRequest {
+        @Getter private final UUID uniqueId;
+        @Getter private final Runnable task;
+        @Getter private final long queuedTime;
+
+        private SearchRequest(UUID uniqueId, Runnable task, long queuedTime) {
+            this.uniqueId = uniqueId;
+            this.task = task;
+            this.queuedTime = queuedTime;
+        }
+    }
+}
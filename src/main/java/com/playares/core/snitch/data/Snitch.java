@@ -1,9 +1,7 @@
 package com.playares.core.snitch.data;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.playares.commons.connect.mongodb.MongoDocument;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.util.general.Time;
@@ -16,12 +14,14 @@ import org.bukkit.entity.Player;
 import java.util.*;
 
 public final class Snitch implements MongoDocument<Snitch> {
+    public static final int DEFAULT_LOG_CAPACITY = 1000;
+
     @Getter public UUID uniqueId;
     @Getter public String name;
     @Getter public UUID ownerId;
     @Getter public BLocatable location;
     @Getter @Setter public long matureTime;
-    @Getter public Set<SnitchEntry> logEntries;
+    @Getter public SnitchLog logEntries;
     @Getter public Map<UUID, BLocatable> spotted;
 
     public Snitch() {
@@ -30,7 +30,7 @@ public final class Snitch implements MongoDocument<Snitch> {
         this.ownerId = null;
         this.location = null;
         this.matureTime = Time.now();
-        this.logEntries = Sets.newConcurrentHashSet();
+        this.logEntries = new SnitchLog(DEFAULT_LOG_CAPACITY);
         this.spotted = Maps.newConcurrentMap();
     }
 
@@ -47,7 +47,7 @@ public final class Snitch implements MongoDocument<Snitch> {
         this.ownerId = ownerId;
         this.location = new BLocatable(block);
         this.matureTime = matureTime;
-        this.logEntries = Sets.newConcurrentHashSet();
+        this.logEntries = new SnitchLog(DEFAULT_LOG_CAPACITY);
         this.spotted = Maps.newConcurrentMap();
     }
 
@@ -98,9 +98,7 @@ public final class Snitch implements MongoDocument<Snitch> {
      * @return ImmutableList of SnitchEntry instances
      */
     public ImmutableList<SnitchEntry> getSortedEntries() {
-        final List<SnitchEntry> entries = Lists.newArrayList(logEntries);
-        entries.sort(Comparator.comparingLong(SnitchEntry::getCreatedDate));
-        return ImmutableList.copyOf(entries);
+        return logEntries.getEntries();
     }
 
     /**
@@ -110,36 +108,45 @@ public final class Snitch implements MongoDocument<Snitch> {
      * @return True if within radius
      */
     public boolean inRadius(BLocatable location, double radius) {
-        final double distance = this.location.distance(location);
-        return (distance >= 0.0 && distance <= radius);
+        return distanceSquared(location) <= (radius * radius);
+    }
+
+    /**
+     * Returns the squared distance between this snitch and the provided block location
+     * @param location Block location
+     * @return Squared distance, or Double.MAX_VALUE if the location is in another world
+     */
+    public double distanceSquared(BLocatable location) {
+        if (!this.location.getWorldName().equals(location.getWorldName())) {
+            return Double.MAX_VALUE;
+        }
+
+        final double x = this.location.getX() - location.getX();
+        final double y = this.location.getY() - location.getY();
+        final double z = this.location.getZ() - location.getZ();
+
+        return (x * x) + (y * y) + (z * z);
     }
 
-    @SuppressWarnings("unchecked") @Override
+    @Override
     public Snitch fromDocument(Document document) {
         this.uniqueId = (UUID)document.get("id");
         this.name = document.getString("name");
         this.ownerId = (UUID)document.get("owner_id");
         this.location = new BLocatable().fromDocument(document.get("location", Document.class));
         this.matureTime = document.getLong("mature_time");
-        this.logEntries = Sets.newConcurrentHashSet();
-
-        final List<Document> logEntryDocuments = document.get("log_entries", List.class);
-        logEntryDocuments.forEach(logEntryDocument -> logEntries.add(new SnitchEntry().fromDocument(logEntryDocument)));
+        this.logEntries = new SnitchLog(DEFAULT_LOG_CAPACITY);
 
         return this;
     }
 
     @Override
     public Document toDocument() {
-        final List<Document> logEntryDocuments = Lists.newArrayList();
-        logEntries.forEach(entry -> logEntryDocuments.add(entry.toDocument()));
-
         return new Document()
                 .append("id", uniqueId)
                 .append("name", name)
                 .append("owner_id", ownerId)
                 .append("location", location.toDocument())
-                .append("mature_time", matureTime)
-                .append("log_entries", logEntryDocuments);
+                .append("mature_time", matureTime);
     }
 }
\ No newline at end of file
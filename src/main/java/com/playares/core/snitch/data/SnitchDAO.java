@@ -5,11 +5,15 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
 import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.core.utils.BulkWriteUtil;
 import org.bson.Document;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public final class SnitchDAO {
     private static final String NAME = "ares";
@@ -33,41 +37,36 @@ public final class SnitchDAO {
 
     /**
      * Save a single Snitch instance to the provided MongoDB instance
+     *
+     * Only the snitch fields are set so log entries still embedded from before the
+     * entry collection existed are kept until they are migrated
+     *
      * @param database MongoDB Instance
      * @param snitch Snitch
      */
     public static void saveSnitch(MongoDB database, Snitch snitch) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-        final Document existing = collection.find(Filters.eq("id", snitch.getUniqueId())).first();
-
-        if (existing != null) {
-            collection.replaceOne(existing, snitch.toDocument());
-        } else {
-            collection.insertOne(snitch.toDocument());
-        }
+        collection.updateOne(Filters.eq("id", snitch.getUniqueId()), new Document("$set", snitch.toDocument()), new UpdateOptions().upsert(true));
     }
 
     /**
      * Save a collection of Snitches to the provided MongoDB instance
+     *
+     * Only the snitch fields are set so log entries still embedded from before the
+     * entry collection existed are kept until they are migrated
+     *
      * @param database MongoDB Instance
      * @param snitches Collection of Snitches
+     * @param batchSize Maximum documents per bulk write
+     * @return Amount of documents written
      */
-    public static void saveSnitches(MongoDB database, Collection<Snitch> snitches) {
+    public static int saveSnitches(MongoDB database, Collection<Snitch> snitches, int batchSize) {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
-
-        snitches.forEach(snitch -> {
-            final Document existing = collection.find(Filters.eq("id", snitch.getUniqueId())).first();
-
-            if (existing != null) {
-                collection.replaceOne(existing, snitch.toDocument());
-            } else {
-                collection.insertOne(snitch.toDocument());
-            }
-        });
+        return BulkWriteUtil.upsertFields(collection, snitches, batchSize);
     }
 
     /**
-     * Delete a snitch from the provided MongoDB instance
+     * Delete a snitch and its log entries from the provided MongoDB instance
      * @param database MongoDB Instance
      * @param snitch Snitch
      */
@@ -75,10 +74,33 @@ public final class SnitchDAO {
         final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
         final Document existing = collection.find(Filters.eq("id", snitch.getUniqueId())).first();
 
+        SnitchEntryDAO.deleteEntries(database, snitch.getUniqueId());
+
         if (existing == null) {
             return;
         }
 
         collection.deleteOne(existing);
     }
+
+    /**
+     * Deletes every snitch owned by the provided network and their log entries from the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param ownerId Network UUID
+     * @return Amount of snitches deleted
+     */
+    public static long deleteByOwner(MongoDB database, UUID ownerId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        final List<UUID> snitchIds = Lists.newArrayList();
+
+        for (Document document : collection.find(Filters.eq("owner_id", ownerId)).projection(Projections.include("id"))) {
+            snitchIds.add((UUID)document.get("id"));
+        }
+
+        if (!snitchIds.isEmpty()) {
+            SnitchEntryDAO.deleteEntries(database, snitchIds);
+        }
+
+        return collection.deleteMany(Filters.eq("owner_id", ownerId)).getDeletedCount();
+    }
 }
\ No newline at end of file
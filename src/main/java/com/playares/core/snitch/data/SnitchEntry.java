@@ -3,61 +3,108 @@ package com.playares.core.snitch.data;
 import com.playares.commons.connect.mongodb.MongoDocument;
 import com.playares.commons.location.BLocatable;
 import com.playares.commons.util.general.Time;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.StringTable;
 import lombok.Getter;
+import lombok.Setter;
 import org.bson.Document;
 
+import java.util.Date;
 import java.util.UUID;
 
+/**
+ * A single logged snitch event
+ *
+ * Entries are kept in a compact form since busy snitches hold many of them. Entity,
+ * block and world names are interned in to shared tables, the block location is stored
+ * as packed coordinates and the description is derived from the entry type.
+ */
 public final class SnitchEntry implements MongoDocument<SnitchEntry> {
-    @Getter public UUID uniqueId;
+    private static final StringTable ENTITY_NAMES = new StringTable();
+    private static final StringTable BLOCK_NAMES = new StringTable();
+    private static final StringTable WORLD_NAMES = new StringTable();
+
+    @Getter @Setter public UUID snitchId;
     @Getter public SnitchEntryType type;
-    @Getter public String entity;
-    @Getter public String block;
-    @Getter public String description;
-    @Getter public BLocatable blockLocation;
+    private int entityId;
+    private int blockId;
+    private int worldId;
+    private long packedLocation;
     @Getter public long createdDate;
     @Getter public long expireDate;
 
     public SnitchEntry() {
-        this.uniqueId = UUID.randomUUID();
+        this.snitchId = null;
         this.type = null;
-        this.entity = null;
-        this.block = null;
-        this.description = "Something wonderful happened";
-        this.blockLocation = null;
+        this.entityId = -1;
+        this.blockId = -1;
+        this.worldId = -1;
+        this.packedLocation = 0L;
         this.createdDate = Time.now();
         this.expireDate = Time.now();
     }
 
     /**
      * Create a new Snitch instance with provided information
+     * @param snitchId Snitch UUID
      * @param type Event Type
      * @param entityName Entity involved name
      * @param blockName Block involved name
-     * @param description Description of the event
      * @param location Event location
      * @param expireDate Log expire date
      */
-    public SnitchEntry(SnitchEntryType type, String entityName, String blockName, String description, BLocatable location, long expireDate) {
-        this.uniqueId = UUID.randomUUID();
+    public SnitchEntry(UUID snitchId, SnitchEntryType type, String entityName, String blockName, BLocatable location, long expireDate) {
+        this.snitchId = snitchId;
         this.type = type;
-        this.entity = entityName;
-        this.block = blockName;
-        this.description = description;
-        this.blockLocation = location;
+        this.entityId = ENTITY_NAMES.intern(entityName);
+        this.blockId = BLOCK_NAMES.intern(blockName);
+        setBlockLocation(location);
         this.createdDate = Time.now();
         this.expireDate = expireDate;
     }
 
+    /**
+     * @return Entity involved name
+     */
+    public String getEntity() {
+        return ENTITY_NAMES.get(entityId);
+    }
+
+    /**
+     * @return Block involved name
+     */
+    public String getBlock() {
+        return BLOCK_NAMES.get(blockId);
+    }
+
+    /**
+     * @return Description of the event
+     */
+    public String getDescription() {
+        return (type != null) ? type.getDisplayName() : "Something wonderful happened";
+    }
+
+    /**
+     * Returns a new BLocatable for the location of this event
+     * @return BLocatable
+     */
+    public BLocatable getBlockLocation() {
+        return new BLocatable(WORLD_NAMES.get(worldId), BlockUtil.getPackedX(packedLocation), BlockUtil.getPackedY(packedLocation), BlockUtil.getPackedZ(packedLocation));
+    }
+
+    private void setBlockLocation(BLocatable location) {
+        this.worldId = WORLD_NAMES.intern(location.getWorldName());
+        this.packedLocation = BlockUtil.toPackedLong((int)location.getX(), (int)location.getY(), (int)location.getZ());
+    }
+
     @Override
     public String toString() {
         return "SnitchEntry {" +
-                "uniqueId=" + uniqueId.toString() +
+                "snitchId=" + snitchId +
                 ", type=" + type.name() +
-                ", entity='" + entity + '\'' +
-                ", block='" + block + '\'' +
-                ", description='" + description + '\'' +
-                ", blockLocation=" + blockLocation.toString() +
+                ", entity='" + getEntity() + '\'' +
+                ", block='" + getBlock() + '\'' +
+                ", blockLocation=" + getBlockLocation().toString() +
                 ", createdDate=" + createdDate +
                 ", expireDate=" + expireDate +
                 '}';
@@ -65,14 +112,16 @@ public final class SnitchEntry implements MongoDocument<SnitchEntry> {
 
     @Override
     public SnitchEntry fromDocument(Document document) {
-        this.uniqueId = (UUID)document.get("id");
+        this.snitchId = (UUID)document.get("snitch_id");
         this.type = SnitchEntryType.valueOf(document.getString("type"));
-        this.entity = document.getString("entity_name");
-        this.block = document.getString("block_name");
-        this.description = document.getString("description");
-        this.blockLocation = new BLocatable().fromDocument(document.get("block_location", Document.class));
+        this.entityId = ENTITY_NAMES.intern(document.getString("entity_name"));
+        this.blockId = BLOCK_NAMES.intern(document.getString("block_name"));
+        setBlockLocation(new BLocatable().fromDocument(document.get("block_location", Document.class)));
         this.createdDate = document.getLong("created");
-        this.expireDate = document.getLong("expire");
+
+        // Embedded entries stored the expire date as a long, the TTL index requires a date
+        final Object expire = document.get("expire");
+        this.expireDate = (expire instanceof Date) ? ((Date)expire).getTime() : (Long)expire;
 
         return this;
     }
@@ -80,13 +129,12 @@ public final class SnitchEntry implements MongoDocument<SnitchEntry> {
     @Override
     public Document toDocument() {
         return new Document()
-                .append("id", uniqueId)
+                .append("snitch_id", snitchId)
                 .append("type", type.name())
-                .append("entity_name", entity)
-                .append("block_name", block)
-                .append("description", description)
-                .append("block_location", blockLocation.toDocument())
+                .append("entity_name", getEntity())
+                .append("block_name", getBlock())
+                .append("block_location", getBlockLocation().toDocument())
                 .append("created", createdDate)
-                .append("expire", expireDate);
+                .append("expire", new Date(expireDate));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,239 @@
+package com.playares.core.snitch.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Lists;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import com.playares.commons.connect.mongodb.MongoDB;
+import com.playares.commons.logger.Logger;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public final class SnitchEntryDAO {
+    private static final String NAME = "ares";
+    private static final String COLL = "snitch_entries";
+    private static final String SNITCH_COLL = "snitches";
+    private static final Collation CASE_INSENSITIVE = Collation.builder().locale("en").collationStrength(CollationStrength.SECONDARY).build();
+
+    /**
+     * Creates the indexes used by the snitch entry collection
+     *
+     * Entries are looked up by snitch and ordered by creation date, the TTL index
+     * lets the database remove entries once their expire date has passed
+     *
+     * @param database MongoDB Instance
+     */
+    public static void createIndexes(MongoDB database) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+
+        collection.createIndex(Indexes.compoundIndex(Indexes.ascending("snitch_id"), Indexes.descending("created")));
+        collection.createIndex(Indexes.ascending("expire"), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+        collection.createIndex(Indexes.compoundIndex(Indexes.ascending("entity_name"), Indexes.descending("created")), new IndexOptions().collation(CASE_INSENSITIVE));
+        collection.createIndex(Indexes.compoundIndex(Indexes.ascending("type"), Indexes.descending("created")));
+    }
+
+    /**
+     * Moves log entries embedded in snitch documents in to the snitch entry collection
+     *
+     * The embedded entries are only removed from a snitch once all of them were inserted.
+     * A snitch that failed part way is retried on the next load, the entries a previous
+     * attempt inserted for the same time range are removed first so none are duplicated.
+     *
+     * @param database MongoDB Instance
+     * @return Amount of entries migrated
+     */
+    @SuppressWarnings("unchecked")
+    public static int migrateEmbeddedEntries(MongoDB database) {
+        final MongoCollection<Document> snitches = database.getCollection(NAME, SNITCH_COLL);
+        final MongoCursor<Document> cursor = snitches.find(Filters.exists("log_entries")).cursor();
+        int migrated = 0;
+
+        while (cursor.hasNext()) {
+            final Document document = cursor.next();
+            final UUID snitchId = (UUID)document.get("id");
+            final List<Document> embedded = document.get("log_entries", List.class);
+            final List<SnitchEntry> entries = Lists.newArrayList();
+
+            if (embedded != null) {
+                for (Document entryDocument : embedded) {
+                    final SnitchEntry entry = new SnitchEntry().fromDocument(entryDocument);
+                    entry.setSnitchId(snitchId);
+                    entries.add(entry);
+                }
+            }
+
+            if (entries.isEmpty()) {
+                snitches.updateOne(Filters.eq("id", snitchId), Updates.unset("log_entries"));
+                continue;
+            }
+
+            final long oldest = entries.stream().mapToLong(SnitchEntry::getCreatedDate).min().orElse(0L);
+            final long newest = entries.stream().mapToLong(SnitchEntry::getCreatedDate).max().orElse(0L);
+
+            try {
+                database.getCollection(NAME, COLL).deleteMany(Filters.and(Filters.eq("snitch_id", snitchId), Filters.gte("created", oldest), Filters.lte("created", newest)));
+
+                final int inserted = insertEntries(database, entries);
+                migrated += inserted;
+
+                if (inserted != entries.size()) {
+                    Logger.warn("Migrated " + inserted + "/" + entries.size() + " log entries for snitch " + snitchId + ", embedded entries kept for the next attempt");
+                    continue;
+                }
+
+                snitches.updateOne(Filters.eq("id", snitchId), Updates.unset("log_entries"));
+            } catch (MongoException ex) {
+                Logger.error("Failed to migrate log entries for snitch " + snitchId + ": " + ex.getMessage());
+            }
+        }
+
+        cursor.close();
+
+        return migrated;
+    }
+
+    /**
+     * Returns an Immutable Multimap of all unexpired entries in the database keyed by snitch
+     * @param database MongoDB Instance
+     * @return Immutable Multimap of Snitch UUID to entries, oldest first
+     */
+    public static ImmutableMultimap<UUID, SnitchEntry> getEntries(MongoDB database) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        final ImmutableMultimap.Builder<UUID, SnitchEntry> entries = ImmutableMultimap.builder();
+        final MongoCursor<Document> cursor = collection.find(Filters.gt("expire", new Date())).sort(Sorts.ascending("created")).cursor();
+
+        while (cursor.hasNext()) {
+            final SnitchEntry entry = new SnitchEntry().fromDocument(cursor.next());
+
+            if (entry.getSnitchId() != null) {
+                entries.put(entry.getSnitchId(), entry);
+            }
+        }
+
+        cursor.close();
+
+        return entries.build();
+    }
+
+    /**
+     * Returns a page of entries across the provided snitches matching the provided filters, newest first
+     *
+     * The query is aborted by the database once it runs longer than the provided time limit
+     *
+     * @param database MongoDB Instance
+     * @param snitchIds Snitch UUIDs to search
+     * @param entity Entity name, case insensitive, or null for any
+     * @param type Entry type, or null for any
+     * @param since Oldest creation date to include
+     * @param skip Amount of entries to skip
+     * @param limit Maximum amount of entries to return
+     * @param maxTimeMillis Query time limit in milliseconds
+     * @return Immutable List of Snitch Entries
+     * @throws MongoExecutionTimeoutException If the query exceeds the provided time limit
+     */
+    public static ImmutableList<SnitchEntry> searchEntries(MongoDB database, Collection<UUID> snitchIds, String entity, SnitchEntryType type, long since, int skip, int limit, long maxTimeMillis) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        final List<Bson> filters = Lists.newArrayList();
+        final List<SnitchEntry> entries = Lists.newArrayList();
+
+        if (snitchIds.isEmpty()) {
+            return ImmutableList.of();
+        }
+
+        filters.add(Filters.in("snitch_id", snitchIds));
+        filters.add(Filters.gte("created", since));
+
+        if (entity != null) {
+            filters.add(Filters.eq("entity_name", entity));
+        }
+
+        if (type != null) {
+            filters.add(Filters.eq("type", type.name()));
+        }
+
+        final MongoCursor<Document> cursor = collection
+                .find(Filters.and(filters))
+                .collation(CASE_INSENSITIVE)
+                .sort(Sorts.descending("created"))
+                .skip(skip)
+                .limit(limit)
+                .maxTime(maxTimeMillis, TimeUnit.MILLISECONDS)
+                .cursor();
+
+        try {
+            while (cursor.hasNext()) {
+                entries.add(new SnitchEntry().fromDocument(cursor.next()));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        return ImmutableList.copyOf(entries);
+    }
+
+    /**
+     * Appends a collection of entries to the provided MongoDB instance
+     * @param database MongoDB Instance
+     * @param entries Collection of Snitch Entries
+     * @return Amount of entries inserted
+     */
+    public static int insertEntries(MongoDB database, Collection<SnitchEntry> entries) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        final List<Document> documents = Lists.newArrayListWithExpectedSize(entries.size());
+
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        entries.forEach(entry -> documents.add(entry.toDocument()));
+
+        try {
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException ex) {
+            Logger.error("Failed to insert " + ex.getWriteErrors().size() + " snitch entries: " + ex.getMessage());
+            return ex.getWriteResult().getInsertedCount();
+        }
+
+        return documents.size();
+    }
+
+    /**
+     * Deletes every entry belonging to the provided snitch
+     * @param database MongoDB Instance
+     * @param snitchId Snitch UUID
+     * @return Amount of entries deleted
+     */
+    public static long deleteEntries(MongoDB database, UUID snitchId) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.eq("snitch_id", snitchId)).getDeletedCount();
+    }
+
+    /**
+     * Deletes every entry belonging to the provided snitches
+     * @param database MongoDB Instance
+     * @param snitchIds Snitch UUIDs
+     * @return Amount of entries deleted
+     */
+    public static long deleteEntries(MongoDB database, Collection<UUID> snitchIds) {
+        final MongoCollection<Document> collection = database.getCollection(NAME, COLL);
+        return collection.deleteMany(Filters.in("snitch_id", snitchIds)).getDeletedCount();
+    }
+}
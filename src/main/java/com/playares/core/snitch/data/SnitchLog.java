@@ -0,0 +1,167 @@
+package com.playares.core.snitch.data;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Fixed capacity ring buffer of snitch entries ordered by creation time
+ *
+ * Entries are appended as they are created, so the buffer stays ordered without sorting.
+ * Once the buffer is full each new entry overwrites the oldest one.
+ *
+ * All methods are synchronized on the log instance.
+ */
+public final class SnitchLog {
+    private SnitchEntry[] entries;
+    private int head;
+    private int size;
+    @Getter public long evicted;
+
+    public SnitchLog(int capacity) {
+        this.entries = new SnitchEntry[Math.max(1, capacity)];
+        this.head = 0;
+        this.size = 0;
+        this.evicted = 0L;
+    }
+
+    /**
+     * Appends an entry, evicting the oldest entry if the log is full
+     * @param entry Snitch Entry
+     */
+    public synchronized void add(SnitchEntry entry) {
+        if (size == entries.length) {
+            entries[head] = entry;
+            head = (head + 1) % entries.length;
+            evicted++;
+            return;
+        }
+
+        entries[(head + size) % entries.length] = entry;
+        size++;
+    }
+
+    /**
+     * Appends a collection of entries ordered oldest first
+     * @param entries Collection of Snitch Entries
+     */
+    public synchronized void addAll(Collection<SnitchEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Returns a page of entries ordered newest first
+     * @param page Page, starting at 0
+     * @param pageSize Entries per page
+     * @return Immutable List of Snitch Entries
+     */
+    public synchronized ImmutableList<SnitchEntry> getPage(int page, int pageSize) {
+        final ImmutableList.Builder<SnitchEntry> result = ImmutableList.builder();
+        final int start = page * pageSize;
+        final int end = Math.min(size, start + pageSize);
+
+        for (int i = start; i < end; i++) {
+            result.add(entries[(head + size - 1 - i) % entries.length]);
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Returns all entries ordered oldest first
+     * @return Immutable List of Snitch Entries
+     */
+    public synchronized ImmutableList<SnitchEntry> getEntries() {
+        final ImmutableList.Builder<SnitchEntry> result = ImmutableList.builder();
+
+        for (int i = 0; i < size; i++) {
+            result.add(entries[(head + i) % entries.length]);
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Removes every entry matching the provided filter
+     * @param filter Filter
+     * @return True if any entries were removed
+     */
+    public synchronized boolean removeIf(Predicate<SnitchEntry> filter) {
+        final SnitchEntry[] kept = new SnitchEntry[entries.length];
+        int keptSize = 0;
+
+        for (int i = 0; i < size; i++) {
+            final SnitchEntry entry = entries[(head + i) % entries.length];
+
+            if (!filter.test(entry)) {
+                kept[keptSize++] = entry;
+            }
+        }
+
+        if (keptSize == size) {
+            return false;
+        }
+
+        entries = kept;
+        head = 0;
+        size = keptSize;
+        return true;
+    }
+
+    /**
+     * Updates the capacity of this log, evicting the oldest entries if it shrinks
+     * @param capacity Maximum amount of entries
+     */
+    public synchronized void setCapacity(int capacity) {
+        final int newCapacity = Math.max(1, capacity);
+
+        if (newCapacity == entries.length) {
+            return;
+        }
+
+        final SnitchEntry[] resized = new SnitchEntry[newCapacity];
+        final int kept = Math.min(size, newCapacity);
+        final int skipped = size - kept;
+
+        for (int i = 0; i < kept; i++) {
+            resized[i] = entries[(head + skipped + i) % entries.length];
+        }
+
+        evicted += skipped;
+        entries = resized;
+        head = 0;
+        size = kept;
+    }
+
+    /**
+     * @return Maximum amount of entries
+     */
+    public synchronized int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * @return Amount of entries
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return True if this log has no entries
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry from this log
+     */
+    public synchronized void clear() {
+        entries = new SnitchEntry[entries.length];
+        head = 0;
+        size = 0;
+    }
+}
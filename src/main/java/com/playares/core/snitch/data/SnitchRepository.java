@@ -0,0 +1,274 @@
+package com.playares.core.snitch.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.playares.commons.location.BLocatable;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.KeyedRepository;
+import com.playares.core.utils.LongHashMap;
+import lombok.Getter;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Snitch storage indexed by a per-world uniform grid
+ *
+ * Each world splits the X and Z axis in to square cells of the provided size, a radius
+ * query only visits the cells overlapping the radius and compares squared distances.
+ * Snitches are also indexed by packed block coordinates for exact block lookups, and
+ * by the players they have currently spotted.
+ *
+ * This class is a Set view over every loaded snitch so existing iteration, size and
+ * stream calls keep working.
+ */
+public final class SnitchRepository extends AbstractSet<Snitch> {
+    private final KeyedRepository<Snitch> snitches;
+    private final Map<String, SnitchWorld> worlds;
+    private final Map<UUID, Set<Snitch>> spotted;
+    @Getter public final int cellSize;
+
+    public SnitchRepository(int cellSize) {
+        this.snitches = new KeyedRepository<>(Snitch::getUniqueId);
+        this.worlds = Maps.newConcurrentMap();
+        this.spotted = Maps.newConcurrentMap();
+        this.cellSize = Math.max(1, cellSize);
+    }
+
+    /**
+     * Returns a Snitch matching the provided UUID
+     * @param uniqueId Snitch ID
+     * @return Snitch
+     */
+    public Snitch getSnitchByID(UUID uniqueId) {
+        return snitches.get(uniqueId);
+    }
+
+    /**
+     * Returns a Snitch at the provided block coordinates
+     * @param worldName World Name
+     * @param x Block X
+     * @param y Block Y
+     * @param z Block Z
+     * @return Snitch
+     */
+    public Snitch getSnitchByBlock(String worldName, int x, int y, int z) {
+        final SnitchWorld world = worlds.get(worldName);
+
+        if (world == null) {
+            return null;
+        }
+
+        return world.getBlocks().get(BlockUtil.toPackedLong(x, y, z));
+    }
+
+    /**
+     * Returns an Immutable List of all snitches within the provided radius of the provided block location
+     * @param location Block location
+     * @param radius Radius
+     * @return Immutable List of Snitches
+     */
+    public ImmutableList<Snitch> getSnitchByRadius(BLocatable location, double radius) {
+        final SnitchWorld world = worlds.get(location.getWorldName());
+
+        if (world == null) {
+            return ImmutableList.of();
+        }
+
+        final ImmutableList.Builder<Snitch> result = ImmutableList.builder();
+        final double radiusSquared = radius * radius;
+        final int minCellX = toCell((int)Math.floor(location.getX() - radius));
+        final int maxCellX = toCell((int)Math.floor(location.getX() + radius));
+        final int minCellZ = toCell((int)Math.floor(location.getZ() - radius));
+        final int maxCellZ = toCell((int)Math.floor(location.getZ() + radius));
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                final Set<Snitch> cell = world.getCells().get(BlockUtil.toChunkKey(cellX, cellZ));
+
+                if (cell == null) {
+                    continue;
+                }
+
+                for (Snitch snitch : cell) {
+                    if (snitch.distanceSquared(location) <= radiusSquared) {
+                        result.add(snitch);
+                    }
+                }
+            }
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Returns an Immutable Set of all snitches the provided Bukkit UUID is currently spotted by
+     * @param uniqueId Bukkit UUID
+     * @return Immutable Set of Snitches
+     */
+    public ImmutableSet<Snitch> getSnitchBySpotted(UUID uniqueId) {
+        final Set<Snitch> snitches = spotted.get(uniqueId);
+
+        if (snitches == null) {
+            return ImmutableSet.of();
+        }
+
+        return ImmutableSet.copyOf(snitches);
+    }
+
+    /**
+     * Marks the provided Bukkit UUID as spotted by the provided snitch at the provided location
+     * @param snitch Snitch
+     * @param uniqueId Bukkit UUID
+     * @param location Last seen location
+     */
+    public void setSpotted(Snitch snitch, UUID uniqueId, BLocatable location) {
+        snitch.getSpotted().put(uniqueId, location);
+        spotted.computeIfAbsent(uniqueId, id -> Sets.newConcurrentHashSet()).add(snitch);
+    }
+
+    /**
+     * Removes the spotted status of the provided Bukkit UUID from the provided snitch
+     * @param snitch Snitch
+     * @param uniqueId Bukkit UUID
+     */
+    public void removeSpotted(Snitch snitch, UUID uniqueId) {
+        snitch.getSpotted().remove(uniqueId);
+
+        spotted.computeIfPresent(uniqueId, (id, snitches) -> {
+            snitches.remove(snitch);
+            return snitches.isEmpty() ? null : snitches;
+        });
+    }
+
+    /**
+     * Removes the spotted status of the provided Bukkit UUID from every snitch
+     * @param uniqueId Bukkit UUID
+     */
+    public void removeSpotted(UUID uniqueId) {
+        final Set<Snitch> snitches = spotted.remove(uniqueId);
+
+        if (snitches != null) {
+            snitches.forEach(snitch -> snitch.getSpotted().remove(uniqueId));
+        }
+    }
+
+    @Override
+    public synchronized boolean add(Snitch snitch) {
+        if (!snitches.add(snitch)) {
+            return false;
+        }
+
+        final SnitchWorld world = worlds.computeIfAbsent(snitch.getLocation().getWorldName(), name -> new SnitchWorld());
+        final long cellKey = getCellKey(snitch.getLocation());
+        Set<Snitch> cell = world.getCells().get(cellKey);
+
+        if (cell == null) {
+            cell = Sets.newConcurrentHashSet();
+            world.getCells().put(cellKey, cell);
+        }
+
+        cell.add(snitch);
+        world.getBlocks().put(getBlockKey(snitch.getLocation()), snitch);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object object) {
+        if (!(object instanceof Snitch) || !snitches.remove(object)) {
+            return false;
+        }
+
+        final Snitch snitch = (Snitch)object;
+        final SnitchWorld world = worlds.get(snitch.getLocation().getWorldName());
+
+        snitch.getSpotted().keySet().forEach(uniqueId -> removeSpotted(snitch, uniqueId));
+
+        if (world == null) {
+            return true;
+        }
+
+        final long cellKey = getCellKey(snitch.getLocation());
+        final Set<Snitch> cell = world.getCells().get(cellKey);
+
+        if (cell != null) {
+            cell.remove(snitch);
+
+            if (cell.isEmpty()) {
+                world.getCells().remove(cellKey);
+            }
+        }
+
+        world.getBlocks().remove(getBlockKey(snitch.getLocation()), snitch);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return snitches.contains(object);
+    }
+
+    @Override
+    public Iterator<Snitch> iterator() {
+        final Iterator<Snitch> iterator = snitches.iterator();
+
+        return new Iterator<Snitch>() {
+            private Snitch current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Snitch next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+
+                SnitchRepository.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return snitches.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        snitches.clear();
+        worlds.clear();
+        spotted.clear();
+    }
+
+    private int toCell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private long getCellKey(BLocatable location) {
+        return BlockUtil.toChunkKey(toCell((int)location.getX()), toCell((int)location.getZ()));
+    }
+
+    private long getBlockKey(BLocatable location) {
+        return BlockUtil.toPackedLong((int)location.getX(), (int)location.getY(), (int)location.getZ());
+    }
+
+    private static final class SnitchWorld {
+        @Getter private final LongHashMap<Snitch> blocks = new LongHashMap<>();
+        @Getter private final LongHashMap<Set<Snitch>> cells = new LongHashMap<>();
+    }
+}
@@ -0,0 +1,33 @@
+package com.playares.core.snitch.data;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Filters for a snitch log search across a network's snitches
+ */
+public final class SnitchSearch {
+    @Getter public final String networkName;
+    @Getter public final ImmutableMap<UUID, String> snitchNames;
+    @Getter public final String entity;
+    @Getter public final SnitchEntryType type;
+    @Getter public final long since;
+
+    /**
+     * Create a new search with the provided filters
+     * @param networkName Network Name
+     * @param snitchNames Snitch UUIDs to search mapped to their names
+     * @param entity Entity name, or null for any
+     * @param type Entry type, or null for any
+     * @param since Oldest creation date to include
+     */
+    public SnitchSearch(String networkName, ImmutableMap<UUID, String> snitchNames, String entity, SnitchEntryType type, long since) {
+        this.networkName = networkName;
+        this.snitchNames = snitchNames;
+        this.entity = entity;
+        this.type = type;
+        this.since = since;
+    }
+}
@@ -71,7 +71,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, material, SnitchEntryType.BLOCK_BREAK))).run();
         };
 
-        manager.searchQueue.add(task);
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler (priority = EventPriority.HIGHEST)
@@ -112,7 +112,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, material, SnitchEntryType.BLOCK_PLACE))).run();
         };
 
-        manager.searchQueue.add(task);
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler
@@ -143,7 +143,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, Material.AIR, SnitchEntryType.LOGOUT))).run();
         };
 
-        manager.searchQueue.add(task);
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler
@@ -174,7 +174,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, Material.AIR, SnitchEntryType.LOGIN))).run();
         };
 
-        manager.searchQueue.add(task);
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler (priority = EventPriority.HIGHEST)
@@ -224,7 +224,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, material, SnitchEntryType.BLOCK_INTERACTION))).run();
         };
 
-        manager.searchQueue.add(task);
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler
@@ -259,20 +259,7 @@ public final class SnitchListener implements Listener {
                     .forEach(snitch -> manager.getHandler().triggerSnitch(snitch, player, location, Material.AIR, SnitchEntryType.KILL))).run();
         };
 
-        manager.searchQueue.add(task);
-    }
-
-    @EventHandler
-    public void removePlayerOnDisconnect(PlayerQuitEvent event) {
-        final Player player = event.getPlayer();
-
-        final List<Snitch> spottedBy = manager.getSnitchBySpotted(player.getUniqueId());
-
-        if (spottedBy.isEmpty()) {
-            return;
-        }
-
-        spottedBy.forEach(snitch -> snitch.getSpotted().remove(player.getUniqueId()));
+        manager.getSearchQueue().submit(player.getUniqueId(), task);
     }
 
     @EventHandler (priority = EventPriority.MONITOR)
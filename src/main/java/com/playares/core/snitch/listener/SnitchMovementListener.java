@@ -0,0 +1,61 @@
+package com.playares.core.snitch.listener;
+
+import com.playares.commons.event.PlayerBigMoveEvent;
+import com.playares.commons.util.bukkit.Scheduler;
+import com.playares.core.snitch.SnitchManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+@AllArgsConstructor
+public final class SnitchMovementListener implements Listener {
+    @Getter public final SnitchManager manager;
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onPlayerMove(PlayerBigMoveEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        manager.getPresenceTracker().update(event.getPlayer(), event.getTo(), false);
+    }
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        manager.getPresenceTracker().update(event.getPlayer(), event.getTo(), true);
+    }
+
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        final Player player = event.getPlayer();
+
+        // Respawn location is applied after this event
+        new Scheduler(manager.getPlugin()).sync(() -> {
+            if (player.isOnline()) {
+                manager.getPresenceTracker().update(player, player.getLocation(), true);
+            }
+        }).run();
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        final Player player = event.getPlayer();
+        manager.getPresenceTracker().update(player, player.getLocation(), true);
+    }
+
+    @EventHandler (priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        manager.getPresenceTracker().remove(event.getPlayer().getUniqueId());
+    }
+}
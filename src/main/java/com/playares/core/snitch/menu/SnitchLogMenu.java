@@ -17,8 +17,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.plugin.Plugin;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 public final class SnitchLogMenu extends Menu {
@@ -46,72 +44,8 @@ public final class SnitchLogMenu extends Menu {
         final boolean hasNextPage = snitch.getLogEntries().size() > end;
         final boolean hasPrevPage = start > 0;
 
-        final List<SnitchEntry> entries = Lists.newArrayList(snitch.getLogEntries());
-        entries.sort(Comparator.comparing(SnitchEntry::getCreatedDate));
-        Collections.reverse(entries);
-
-        for (int i = start; i < end; i++) {
-            if (cursor >= 52 || entries.size() <= i) {
-                break;
-            }
-
-            final SnitchEntry entry = entries.get(i);
-
-            if (entry == null) {
-                continue;
-            }
-
-            final List<String> lore = Lists.newArrayList();
-
-            lore.add(ChatColor.GOLD + entry.getDescription());
-            lore.add(ChatColor.AQUA + entry.getBlockLocation().toString());
-            lore.add(ChatColor.GRAY + Time.convertToInaccurateElapsed(Time.now() - entry.getCreatedDate()) + " ago");
-
-            final ItemStack icon;
-            final String name = ChatColor.BLUE + entry.getEntity() + " " + entry.getType().getDescriptor();
-            Material material;
-
-            if (entry.getType().equals(SnitchEntryType.BLOCK_BREAK) || entry.getType().equals(SnitchEntryType.BLOCK_PLACE) || entry.getType().equals(SnitchEntryType.BLOCK_INTERACTION)) {
-                material = Material.getMaterial(entry.getBlock());
-
-                // Fixes blank/empty texture bug
-                switch (material) {
-                    case WOODEN_DOOR: material = Material.WOOD_DOOR;
-                        break;
-
-                    case ACACIA_DOOR: material = Material.ACACIA_DOOR_ITEM;
-                        break;
-
-                    case BIRCH_DOOR: material = Material.BIRCH_DOOR_ITEM;
-                        break;
-
-                    case JUNGLE_DOOR: material = Material.JUNGLE_DOOR_ITEM;
-                        break;
-
-                    case SPRUCE_DOOR: material = Material.SPRUCE_DOOR_ITEM;
-                        break;
-                }
-
-                icon = new ItemBuilder()
-                        .setMaterial(material)
-                        .setName(name)
-                        .addLore(lore)
-                        .build();
-            }
-
-            else {
-                material = Material.SKULL_ITEM;
-                icon = new ItemBuilder()
-                        .setMaterial(material)
-                        .setName(name)
-                        .setData((short)3)
-                        .addLore(lore)
-                        .build();
-
-                final SkullMeta meta = (SkullMeta)icon.getItemMeta();
-                meta.setOwner(entry.getEntity());
-                icon.setItemMeta(meta);
-            }
+        for (SnitchEntry entry : snitch.getLogEntries().getPage(page, 52)) {
+            final ItemStack icon = getEntryIcon(entry, null);
 
             addItem(new ClickableItem(icon, cursor, click -> {}));
 
@@ -136,4 +70,70 @@ public final class SnitchLogMenu extends Menu {
 
         player.updateInventory();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a menu icon for the provided entry
+     * @param entry Snitch Entry
+     * @param extraLore Additional lore line, may be null
+     * @return Bukkit ItemStack
+     */
+    public static ItemStack getEntryIcon(SnitchEntry entry, String extraLore) {
+        final List<String> lore = Lists.newArrayList();
+
+        lore.add(ChatColor.GOLD + entry.getDescription());
+        lore.add(ChatColor.AQUA + entry.getBlockLocation().toString());
+        lore.add(ChatColor.GRAY + Time.convertToInaccurateElapsed(Time.now() - entry.getCreatedDate()) + " ago");
+
+        if (extraLore != null) {
+            lore.add(extraLore);
+        }
+
+        final ItemStack icon;
+        final String name = ChatColor.BLUE + entry.getEntity() + " " + entry.getType().getDescriptor();
+        Material material;
+
+        if (entry.getType().equals(SnitchEntryType.BLOCK_BREAK) || entry.getType().equals(SnitchEntryType.BLOCK_PLACE) || entry.getType().equals(SnitchEntryType.BLOCK_INTERACTION)) {
+            material = Material.getMaterial(entry.getBlock());
+
+            // Fixes blank/empty texture bug
+            switch (material) {
+                case WOODEN_DOOR: material = Material.WOOD_DOOR;
+                    break;
+
+                case ACACIA_DOOR: material = Material.ACACIA_DOOR_ITEM;
+                    break;
+
+                case BIRCH_DOOR: material = Material.BIRCH_DOOR_ITEM;
+                    break;
+
+                case JUNGLE_DOOR: material = Material.JUNGLE_DOOR_ITEM;
+                    break;
+
+                case SPRUCE_DOOR: material = Material.SPRUCE_DOOR_ITEM;
+                    break;
+            }
+
+            icon = new ItemBuilder()
+                    .setMaterial(material)
+                    .setName(name)
+                    .addLore(lore)
+                    .build();
+        }
+
+        else {
+            material = Material.SKULL_ITEM;
+            icon = new ItemBuilder()
+                    .setMaterial(material)
+                    .setName(name)
+                    .setData((short)3)
+                    .addLore(lore)
+                    .build();
+
+            final SkullMeta meta = (SkullMeta)icon.getItemMeta();
+            meta.setOwner(entry.getEntity());
+            icon.setItemMeta(meta);
+        }
+
+        return icon;
+    }
+}
@@ -0,0 +1,80 @@
+package com.playares.core.snitch.menu;
+
+import com.playares.commons.item.ItemBuilder;
+import com.playares.commons.menu.ClickableItem;
+import com.playares.commons.menu.Menu;
+import com.playares.commons.promise.SimplePromise;
+import com.playares.core.snitch.SnitchHandler;
+import com.playares.core.snitch.data.SnitchEntry;
+import com.playares.core.snitch.data.SnitchSearch;
+import lombok.Getter;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+public final class SnitchSearchMenu extends Menu {
+    public static final int PAGE_SIZE = 52;
+
+    @Getter public final SnitchHandler handler;
+    @Getter public final SnitchSearch search;
+    @Getter public final List<SnitchEntry> entries;
+    @Getter public final int page;
+    @Getter public final boolean hasNextPage;
+
+    public SnitchSearchMenu(SnitchHandler handler, Player player, SnitchSearch search, List<SnitchEntry> entries, int page, boolean hasNextPage) {
+        super(handler.getManager().getPlugin(), player, "Search: " + search.getNetworkName(), 6);
+        this.handler = handler;
+        this.search = search;
+        this.entries = entries;
+        this.page = page;
+        this.hasNextPage = hasNextPage;
+    }
+
+    @Override
+    public void open() {
+        super.open();
+        update();
+    }
+
+    private void update() {
+        clear();
+
+        int cursor = 0;
+
+        for (SnitchEntry entry : entries) {
+            final String snitchName = search.getSnitchNames().get(entry.getSnitchId());
+            final ItemStack icon = SnitchLogMenu.getEntryIcon(entry, (snitchName != null ? ChatColor.RED + snitchName : null));
+
+            addItem(new ClickableItem(icon, cursor, click -> {}));
+
+            cursor += 1;
+        }
+
+        if (hasNextPage) {
+            final ItemStack nextPageIcon = new ItemBuilder().setMaterial(Material.EMERALD_BLOCK).setName(ChatColor.GREEN + "Next Page").build();
+            addItem(new ClickableItem(nextPageIcon, 53, click -> openPage(page + 1)));
+        }
+
+        if (page > 0) {
+            final ItemStack prevPageIcon = new ItemBuilder().setMaterial(Material.REDSTONE_BLOCK).setName(ChatColor.RED + "Previous Page").build();
+            addItem(new ClickableItem(prevPageIcon, 52, click -> openPage(page - 1)));
+        }
+
+        player.updateInventory();
+    }
+
+    private void openPage(int newPage) {
+        handler.searchLogs(player, search, newPage, new SimplePromise() {
+            @Override
+            public void success() {}
+
+            @Override
+            public void fail(String s) {
+                player.sendMessage(ChatColor.RED + s);
+            }
+        });
+    }
+}
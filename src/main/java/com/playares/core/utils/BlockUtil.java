@@ -4,17 +4,71 @@ import com.google.common.collect.Lists;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.block.Chest;
-import org.bukkit.block.DoubleChest;
-import org.bukkit.inventory.DoubleChestInventory;
 import org.bukkit.material.Bed;
 import org.bukkit.material.Door;
+import org.bukkit.material.MaterialData;
 
 import java.util.List;
 
 public final class BlockUtil {
+    private static final BlockFace[] HORIZONTAL_FACES = { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
+
+    /**
+     * Packs the provided block coordinates in to a single long
+     *
+     * X and Z use 26 bits each, Y uses the remaining 12 bits
+     *
+     * @param x Block X
+     * @param y Block Y
+     * @param z Block Z
+     * @return Packed coordinates
+     */
+    public static long toPackedLong(int x, int y, int z) {
+        return ((long)(x & 0x3FFFFFF) << 38) | ((long)(z & 0x3FFFFFF) << 12) | (long)(y & 0xFFF);
+    }
+
+    /**
+     * Returns the block X from coordinates packed with toPackedLong
+     * @param packed Packed coordinates
+     * @return Block X
+     */
+    public static int getPackedX(long packed) {
+        return (int)(packed >> 38);
+    }
+
+    /**
+     * Returns the block Y from coordinates packed with toPackedLong
+     * @param packed Packed coordinates
+     * @return Block Y
+     */
+    public static int getPackedY(long packed) {
+        return (int)(packed << 52 >> 52);
+    }
+
+    /**
+     * Returns the block Z from coordinates packed with toPackedLong
+     * @param packed Packed coordinates
+     * @return Block Z
+     */
+    public static int getPackedZ(long packed) {
+        return (int)(packed << 26 >> 38);
+    }
+
+    /**
+     * Packs the provided chunk coordinates in to a single long
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Packed coordinates
+     */
+    public static long toChunkKey(int chunkX, int chunkZ) {
+        return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
     /**
      * Returns an array of block locations for multi-block placements
+     *
+     * Resolved from the block type and data only, no BlockState snapshot is taken
+     *
      * @param block Origin Block
      * @return Array of Blocks
      */
@@ -27,10 +81,16 @@ public final class BlockUtil {
             return blocks;
         }
 
-        if (block.getType().name().contains("_DOOR") && !block.getType().equals(Material.TRAP_DOOR)) {
-            final Door door = (Door)block.getState().getData();
+        final Material type = block.getType();
+
+        if (type.name().contains("_DOOR") && !type.equals(Material.TRAP_DOOR)) {
+            final MaterialData data = type.getNewData(block.getData());
+
+            if (!(data instanceof Door)) {
+                return blocks;
+            }
 
-            if (door.isTopHalf()) {
+            if (((Door)data).isTopHalf()) {
                 blocks.add(block.getRelative(BlockFace.DOWN));
             } else {
                 blocks.add(block.getRelative(BlockFace.UP));
@@ -39,28 +99,28 @@ public final class BlockUtil {
             return blocks;
         }
 
-        if (block.getType().equals(Material.CHEST) || block.getType().equals(Material.TRAPPED_CHEST)) {
-            final Chest chest = (Chest)block.getState();
+        if (type.equals(Material.CHEST) || type.equals(Material.TRAPPED_CHEST)) {
+            for (BlockFace face : HORIZONTAL_FACES) {
+                final Block other = block.getRelative(face);
 
-            if (!(chest.getInventory() instanceof DoubleChestInventory)) {
-                return blocks;
+                if (other.getType().equals(type)) {
+                    blocks.add(other);
+                    break;
+                }
             }
 
-            final DoubleChest doubleChest = (DoubleChest) chest.getInventory().getHolder();
-            final Chest left = (Chest) doubleChest.getLeftSide();
-            final Chest right = (Chest) doubleChest.getRightSide();
-
-            blocks.clear();
-
-            blocks.add(left.getBlock());
-            blocks.add(right.getBlock());
-
             return blocks;
         }
 
-        if (block.getType().equals(Material.BED) || block.getType().equals(Material.BED_BLOCK)) {
-            final Bed bed = (Bed)block.getState().getData();
-            blocks.add(block.getRelative(bed.getFacing()));
+        if (type.equals(Material.BED) || type.equals(Material.BED_BLOCK)) {
+            final MaterialData data = type.getNewData(block.getData());
+
+            if (!(data instanceof Bed)) {
+                return blocks;
+            }
+
+            final Bed bed = (Bed)data;
+            blocks.add(block.getRelative(bed.isHeadOfBed() ? bed.getFacing().getOppositeFace() : bed.getFacing()));
         }
 
         return blocks;
@@ -0,0 +1,88 @@
+package com.playares.core.utils;
+
+import com.google.common.collect.Lists;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.playares.commons.connect.mongodb.MongoDocument;
+import com.playares.commons.logger.Logger;
+import org.bson.Document;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+public final class BulkWriteUtil {
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+    private static final UpdateOptions UPDATE_UPSERT = new UpdateOptions().upsert(true);
+
+    /**
+     * Upserts a collection of documents keyed on their id field
+     *
+     * Documents are sent in unordered bulk writes of the provided batch size. A failed
+     * write does not stop the remaining documents in its batch or any later batches.
+     *
+     * @param collection Mongo Collection
+     * @param documents Documents to write
+     * @param batchSize Maximum documents per bulk write
+     * @param <T> Document type
+     * @return Amount of documents written
+     */
+    public static <T extends MongoDocument<T>> int upsert(MongoCollection<Document> collection, Collection<T> documents, int batchSize) {
+        return write(collection, documents, batchSize, bson -> new ReplaceOneModel<>(Filters.eq("id", bson.get("id")), bson, UPSERT));
+    }
+
+    /**
+     * Upserts a collection of documents keyed on their id field, setting only the fields each document writes
+     *
+     * Unlike upsert, fields in the stored document that are not written by toDocument are kept.
+     *
+     * @param collection Mongo Collection
+     * @param documents Documents to write
+     * @param batchSize Maximum documents per bulk write
+     * @param <T> Document type
+     * @return Amount of documents written
+     */
+    public static <T extends MongoDocument<T>> int upsertFields(MongoCollection<Document> collection, Collection<T> documents, int batchSize) {
+        return write(collection, documents, batchSize, bson -> new UpdateOneModel<>(Filters.eq("id", bson.get("id")), new Document("$set", bson), UPDATE_UPSERT));
+    }
+
+    private static <T extends MongoDocument<T>> int write(MongoCollection<Document> collection, Collection<T> documents, int batchSize, Function<Document, WriteModel<Document>> model) {
+        final int size = Math.max(1, batchSize);
+        final List<WriteModel<Document>> batch = Lists.newArrayListWithExpectedSize(Math.min(size, documents.size()));
+        int written = 0;
+
+        for (T document : documents) {
+            batch.add(model.apply(document.toDocument()));
+
+            if (batch.size() >= size) {
+                written += write(collection, batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            written += write(collection, batch);
+        }
+
+        return written;
+    }
+
+    private static int write(MongoCollection<Document> collection, List<WriteModel<Document>> batch) {
+        try {
+            final BulkWriteResult result = collection.bulkWrite(batch, UNORDERED);
+            return result.getMatchedCount() + result.getUpserts().size();
+        } catch (MongoBulkWriteException ex) {
+            Logger.error("Failed to write " + ex.getWriteErrors().size() + " of " + batch.size() + " documents to " + collection.getNamespace().getCollectionName());
+            return ex.getWriteResult().getMatchedCount() + ex.getWriteResult().getUpserts().size();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.playares.core.utils;
+
+import com.google.common.collect.Maps;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Concurrent set of values indexed by their UUID
+ *
+ * Values are stored in a concurrent map keyed by the UUID returned from the provided
+ * key function, so lookups by UUID are constant time while the repository can still be
+ * iterated, streamed and modified as a regular Set. Adding a value with the UUID of a
+ * value already in the repository does nothing and returns false, the existing value
+ * must be removed first.
+ *
+ * The key of a value must not change while it is in the repository.
+ *
+ * @param <T> Value type
+ */
+public final class KeyedRepository<T> extends AbstractSet<T> {
+    private final Map<UUID, T> values;
+    private final Function<T, UUID> keyFunction;
+
+    public KeyedRepository(Function<T, UUID> keyFunction) {
+        this.values = Maps.newConcurrentMap();
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the value matching the provided UUID
+     * @param uniqueId UUID
+     * @return Value, or null if not found
+     */
+    public T get(UUID uniqueId) {
+        return (uniqueId == null) ? null : values.get(uniqueId);
+    }
+
+    /**
+     * Returns true if a value matching the provided UUID is in this repository
+     * @param uniqueId UUID
+     * @return True if found
+     */
+    public boolean containsKey(UUID uniqueId) {
+        return uniqueId != null && values.containsKey(uniqueId);
+    }
+
+    /**
+     * @return Live view of all values
+     */
+    public Collection<T> values() {
+        return values.values();
+    }
+
+    @Override
+    public boolean add(T value) {
+        return values.putIfAbsent(keyFunction.apply(value), value) == null;
+    }
+
+    @SuppressWarnings("unchecked") @Override
+    public boolean remove(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        try {
+            final T value = (T)object;
+            return values.remove(keyFunction.apply(value), value);
+        } catch (ClassCastException ex) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked") @Override
+    public boolean contains(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        try {
+            return values.get(keyFunction.apply((T)object)) == object;
+        } catch (ClassCastException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return values.values().iterator();
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,240 @@
+package com.playares.core.utils;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash map keyed by primitive longs
+ *
+ * Lookups do not box the key and do not allocate. Collisions are resolved with linear probing
+ * and removals use backward-shift deletion so no tombstones are left behind.
+ *
+ * All methods are synchronized on the map instance.
+ *
+ * @param <V> Value type
+ */
+public final class LongHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6F;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongHashMap(int expected) {
+        int capacity = DEFAULT_CAPACITY;
+
+        while (capacity * LOAD_FACTOR < expected) {
+            capacity <<= 1;
+        }
+
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value mapped to the provided key
+     * @param key Key
+     * @return Value or null
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V get(long key) {
+        int slot = slot(key);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return (V)values[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns true if the provided key is mapped
+     * @param key Key
+     * @return True if mapped
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the provided key to the provided value
+     * @param key Key
+     * @param value Value, may not be null
+     * @return Previous value or null
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("LongHashMap does not support null values");
+        }
+
+        int slot = slot(key);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                final V previous = (V)values[slot];
+                values[slot] = value;
+                return previous;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the provided key
+     * @param key Key
+     * @return Removed value or null
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(long key) {
+        int slot = slot(key);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                final V previous = (V)values[slot];
+                shift(slot);
+                size--;
+                return previous;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the provided key only if it is currently mapped to the provided value
+     * @param key Key
+     * @param value Expected value
+     * @return True if removed
+     */
+    public synchronized boolean remove(long key, V value) {
+        int slot = slot(key);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                if (values[slot] != value) {
+                    return false;
+                }
+
+                shift(slot);
+                size--;
+                return true;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the provided action for every value in this map
+     * @param action Action
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void forEachValue(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V)value);
+            }
+        }
+    }
+
+    /**
+     * @return Amount of mappings in this map
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return True if this map has no mappings
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all mappings from this map
+     */
+    public synchronized void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int)(hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void shift(int slot) {
+        int last = slot;
+        int next = (slot + 1) & mask;
+
+        while (values[next] != null) {
+            final int ideal = slot(keys[next]);
+
+            // Moves the next entry back if its ideal slot is not between the gap and its current slot
+            if (((next - ideal) & mask) >= ((next - last) & mask)) {
+                keys[last] = keys[next];
+                values[last] = values[next];
+                last = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        values[last] = null;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeAt = (int)(capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+
+            int slot = slot(oldKeys[i]);
+
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
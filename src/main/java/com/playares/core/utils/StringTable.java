@@ -0,0 +1,69 @@
+package com.playares.core.utils;
+
+import com.google.common.collect.Maps;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Interns strings in to small integer ids
+ *
+ * Each distinct string is stored once and referenced by its id. Lookups by id read a
+ * volatile array snapshot and do not lock, interning new strings is synchronized.
+ */
+public final class StringTable {
+    private final Map<String, Integer> ids;
+    private volatile String[] values;
+    private int size;
+
+    public StringTable() {
+        this.ids = Maps.newHashMap();
+        this.values = new String[64];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the id for the provided string, adding it to the table if needed
+     * @param value String, may be null
+     * @return Id, or -1 if the provided string is null
+     */
+    public synchronized int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+
+        final Integer existing = ids.get(value);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] current = values;
+
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+
+        current[size] = value;
+        values = current;
+        ids.put(value, size);
+
+        return size++;
+    }
+
+    /**
+     * Returns the string for the provided id
+     * @param id Id
+     * @return String, or null if the id is -1
+     */
+    public String get(int id) {
+        return (id < 0) ? null : values[id];
+    }
+
+    /**
+     * @return Amount of interned strings
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
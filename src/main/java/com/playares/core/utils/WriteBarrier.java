@@ -0,0 +1,43 @@
+package com.playares.core.utils;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Lets a background job wait for every database write that was already running
+ *
+ * Writes hold the shared side of a read/write lock while they run. Awaiting the
+ * barrier briefly takes the exclusive side, which returns once every write started
+ * before the call has finished. Writes never wait on each other.
+ */
+public final class WriteBarrier {
+    private final ReentrantReadWriteLock lock;
+
+    public WriteBarrier() {
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Runs the provided write while holding the barrier
+     * @param write Write
+     * @param <T> Result type
+     * @return Result of the write
+     */
+    public <T> T write(Supplier<T> write) {
+        lock.readLock().lock();
+
+        try {
+            return write.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Blocks until every write that started before this call has finished
+     */
+    public void await() {
+        lock.writeLock().lock();
+        lock.writeLock().unlock();
+    }
+}
@@ -0,0 +1,119 @@
+package com.playares.core.claim.data;
+
+import com.google.common.collect.Maps;
+import com.playares.commons.location.BLocatable;
+import com.playares.core.utils.BlockUtil;
+import com.playares.core.utils.LongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares claim lookups for unclaimed blocks with and without the per-chunk claim counts
+ *
+ * fullLookup resolves the world and probes the block index directly, which is how
+ * getClaimByBlock worked before the counts were added. chunkFiltered goes through
+ * ClaimRepository.getClaimByBlock and returns after checking the counts. claimedChunk
+ * queries unclaimed blocks inside chunks that do have claims, where the count check is
+ * pure overhead.
+ *
+ * Run with: mvn -P benchmark test-compile exec:exec -Dbenchmark=ClaimLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimLookupBenchmark {
+    private static final String WORLD = "world";
+    private static final int QUERIES = 4096;
+
+    @Param({"1000", "50000"})
+    public int claimCount;
+
+    private ClaimRepository repository;
+    private Map<String, LongHashMap<Claim>> worlds;
+    private int[][] unclaimedQueries;
+    private int[][] claimedChunkQueries;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(1L);
+        final UUID ownerId = UUID.randomUUID();
+
+        repository = new ClaimRepository();
+        worlds = Maps.newConcurrentMap();
+
+        final LongHashMap<Claim> blocks = new LongHashMap<>();
+        worlds.put(WORLD, blocks);
+
+        // Claims are packed in to chunks along the x axis, 256 per chunk, at chunk z 0
+        for (int i = 0; i < claimCount; i++) {
+            final int chunkX = i / 256;
+            final int x = (chunkX << 4) + (i % 16);
+            final int z = (i / 16) % 16;
+            final int y = 64;
+            final Claim claim = new Claim(ownerId, chunkX, 0, new BLocatable(WORLD, x, y, z), ClaimType.STONE);
+
+            repository.add(claim);
+            blocks.put(BlockUtil.toPackedLong(x, y, z), claim);
+        }
+
+        final int claimedChunks = (claimCount + 255) / 256;
+
+        unclaimedQueries = new int[QUERIES][];
+        claimedChunkQueries = new int[QUERIES][];
+
+        for (int i = 0; i < QUERIES; i++) {
+            // Unclaimed chunks start at chunk z 1
+            unclaimedQueries[i] = new int[] { random.nextInt(20000) - 10000, random.nextInt(256), 16 + random.nextInt(10000) };
+
+            // Same chunks as the claims, but above them
+            claimedChunkQueries[i] = new int[] { (random.nextInt(claimedChunks) << 4) + random.nextInt(16), 65 + random.nextInt(100), random.nextInt(16) };
+        }
+    }
+
+    private int[] next(int[][] queries) {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return queries[cursor];
+    }
+
+    @Benchmark
+    public Claim fullLookup() {
+        final int[] query = next(unclaimedQueries);
+        final LongHashMap<Claim> blocks = worlds.get(WORLD);
+
+        if (blocks == null) {
+            return null;
+        }
+
+        return blocks.get(BlockUtil.toPackedLong(query[0], query[1], query[2]));
+    }
+
+    @Benchmark
+    public Claim chunkFiltered() {
+        final int[] query = next(unclaimedQueries);
+        return repository.getClaimByBlock(WORLD, query[0], query[1], query[2]);
+    }
+
+    @Benchmark
+    public Claim claimedChunk() {
+        final int[] query = next(claimedChunkQueries);
+        return repository.getClaimByBlock(WORLD, query[0], query[1], query[2]);
+    }
+}
@@ -0,0 +1,160 @@
+package com.playares.core.snitch.data;
+
+import com.playares.commons.location.BLocatable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memory footprint of 1M snitch entries in the old and compact formats
+ *
+ * Entries are built the way they are loaded from the database: every name and the snitch
+ * id are decoded as new instances per entry in the old format, while the compact format
+ * interns names and shares the snitch UUID. After each iteration the retained size of the
+ * built entries is measured with JOL and printed. Run with -prof gc to also report the
+ * bytes allocated per 1M entries.
+ *
+ * Run with: mvn -P benchmark test-compile exec:exec -Dbenchmark=SnitchEntryFootprintBenchmark -Dbenchmark.args="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = { "-Xmx4G" })
+public class SnitchEntryFootprintBenchmark {
+    private static final int ENTRIES = 1_000_000;
+    private static final String WORLD = "world";
+    private static final String[] MATERIALS = { "STONE", "DIRT", "GRASS", "COBBLESTONE", "LOG", "CHEST", "FURNACE", "WOOD_DOOR", "IRON_DOOR", "LEVER" };
+
+    private String[] players;
+    private UUID[] snitchIds;
+    private int[][] locations;
+    private SnitchEntryType[] types;
+    private Object[] built;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(1L);
+
+        players = new String[200];
+        snitchIds = new UUID[1000];
+        locations = new int[ENTRIES][];
+        types = new SnitchEntryType[ENTRIES];
+
+        for (int i = 0; i < players.length; i++) {
+            players[i] = "Player" + i;
+        }
+
+        for (int i = 0; i < snitchIds.length; i++) {
+            snitchIds[i] = UUID.randomUUID();
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            locations[i] = new int[] { random.nextInt(20000) - 10000, random.nextInt(256), random.nextInt(20000) - 10000 };
+            types[i] = SnitchEntryType.values()[random.nextInt(SnitchEntryType.values().length)];
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void measure() {
+        if (built == null) {
+            return;
+        }
+
+        final String format = (built instanceof LegacySnitchEntry[]) ? "legacy" : "compact";
+        final long size = GraphLayout.parseInstance((Object)built).totalSize();
+
+        System.out.println();
+        System.out.println(format + " retained: " + size + " bytes, " + (size / ENTRIES) + " bytes per entry");
+
+        built = null;
+    }
+
+    @Benchmark
+    public Object[] legacyEntries() {
+        final LegacySnitchEntry[] entries = new LegacySnitchEntry[ENTRIES];
+
+        for (int i = 0; i < ENTRIES; i++) {
+            final UUID snitchId = snitchIds[i % snitchIds.length];
+            final SnitchEntryType type = types[i];
+            final int[] location = locations[i];
+
+            entries[i] = new LegacySnitchEntry(
+                    new UUID(snitchId.getMostSignificantBits(), snitchId.getLeastSignificantBits()),
+                    type,
+                    new String(players[i % players.length]),
+                    new String(MATERIALS[i % MATERIALS.length]),
+                    new String(type.getDisplayName()),
+                    new BLocatable(new String(WORLD), location[0], location[1], location[2]),
+                    i);
+        }
+
+        built = entries;
+        return entries;
+    }
+
+    @Benchmark
+    public Object[] compactEntries() {
+        final SnitchEntry[] entries = new SnitchEntry[ENTRIES];
+
+        for (int i = 0; i < ENTRIES; i++) {
+            final int[] location = locations[i];
+
+            final SnitchEntry entry = new SnitchEntry(
+                    null,
+                    types[i],
+                    new String(players[i % players.length]),
+                    new String(MATERIALS[i % MATERIALS.length]),
+                    new BLocatable(new String(WORLD), location[0], location[1], location[2]),
+                    i);
+
+            entry.setSnitchId(snitchIds[i % snitchIds.length]);
+            entries[i] = entry;
+        }
+
+        built = entries;
+        return entries;
+    }
+
+    /**
+     * Field layout of SnitchEntry before the compact format
+     */
+    private static final class LegacySnitchEntry {
+        private final UUID uniqueId;
+        private final UUID snitchId;
+        private final SnitchEntryType type;
+        private final String entity;
+        private final String block;
+        private final String description;
+        private final BLocatable blockLocation;
+        private final long createdDate;
+        private final long expireDate;
+
+        private LegacySnitchEntry(UUID snitchId, SnitchEntryType type, String entity, String block, String description, BLocatable blockLocation, long expireDate) {
+            this.uniqueId = UUID.randomUUID();
+            this.snitchId = snitchId;
+            this.type = type;
+            this.entity = entity;
+            this.block = block;
+            this.description = description;
+            this.blockLocation = blockLocation;
+            this.createdDate = System.currentTimeMillis();
+            this.expireDate = expireDate;
+        }
+    }
+}